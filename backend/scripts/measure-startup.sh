@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# 기본 설정과 빠른 기동 모드(prod 프로필 + AppCDS)의 첫 응답까지 걸리는 시간 비교
+# 사용법: scripts/measure-startup.sh [반복 횟수]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=18080
+MAIN=com.savepet.SavepetBackendApplication
+# H2 는 암묵적 상대 경로 파일 DB 를 거부하므로 절대 경로로 넘긴다
+DATA_DIR="$PWD/build/cds/measure-data"
+
+./gradlew -q cdsArchive cdsClasspath
+CP=$(cat build/cds/classpath.txt)
+
+measure() {
+  local label=$1
+  shift
+  local total=0
+  for i in $(seq "$RUNS"); do
+    rm -rf "$DATA_DIR"
+    local start end ms pid
+    start=$(date +%s%N)
+    java "$@" -cp "$CP" "$MAIN" --server.port=$PORT --savepet.data-dir="$DATA_DIR" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/api/character" > /dev/null; do
+      kill -0 "$pid" 2> /dev/null || { echo "$label #$i: 기동 실패" >&2; exit 1; }
+      sleep 0.02
+    done
+    end=$(date +%s%N)
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    ms=$(( (end - start) / 1000000 ))
+    echo "$label #$i: ${ms}ms"
+    total=$(( total + ms ))
+  done
+  echo "$label 평균: $(( total / RUNS ))ms"
+}
+
+measure default
+measure fast-start -XX:SharedArchiveFile=build/cds/savepet.jsa -Dspring.profiles.active=prod
@@ -0,0 +1,28 @@
+package com.savepet;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 상의 파생 데이터(버전, 인덱스 등)는 DB 커밋 이후에 반영해야 롤백과 어긋나지 않는다
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 밖이면 즉시 실행
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
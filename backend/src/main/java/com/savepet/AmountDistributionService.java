@@ -0,0 +1,239 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자/카테고리별 지출 금액 분포
+ * 범위마다 KLL 분위수 스케치(약 3k 개 값)를 두고 지출 거래가 추가될 때마다 갱신한다.
+ * 새 거래는 스케치 안에서의 순위(0~1)를 이상 점수로 받으므로 카테고리 이력을 다시 읽지 않는다.
+ * 바뀐 스케치만 주기적으로 AmountSketch 테이블에 저장하며, 삭제된 거래는 빼지 않는다 (근사 통계).
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 스케줄 작업이 등록되도록
+public class AmountDistributionService extends SnapshotProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(AmountDistributionService.class);
+
+    private static final int SKETCH_K = 200;
+    public static final String ALL = "all";
+
+    private final Map<String, QuantileSketch> sketches = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private AmountSketchRepository sketchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 이 분위수를 넘으면 이상 지출로 표시
+    @Value("${savepet.anomaly.percentile:0.95}")
+    private double anomalyPercentile;
+
+    // 표본이 이보다 적은 카테고리는 점수를 매기지 않는다
+    @Value("${savepet.anomaly.min-samples:20}")
+    private long minSamples;
+
+    @Override
+    public String getProjectionName() {
+        return "amount-distribution";
+    }
+
+    /**
+     * 저장본이 없거나, 형식이 다르거나, 반영 위치 없이 저장된 예전 저장본이면 지우고 -1
+     */
+    @Override
+    protected long loadSaved() {
+        List<AmountSketch> saved = sketchRepository.findAll();
+        long covered = Long.MAX_VALUE;
+        for (AmountSketch row : saved) {
+            QuantileSketch sketch = QuantileSketch.deserialize(SKETCH_K, row.getData());
+            if (sketch == null || row.getCoveredEventId() == null) {
+                covered = -1L;
+                break;
+            }
+            covered = Math.min(covered, row.getCoveredEventId());
+            sketches.put(row.getScope(), sketch);
+        }
+        if (saved.isEmpty() || covered < 0) {
+            sketches.clear();
+            sketchRepository.deleteAllInBatch();
+            return -1L;
+        }
+        log.info("지출 금액 스케치 {}개 로드 (이벤트 #{} 까지 반영)", saved.size(), covered);
+        return covered;
+    }
+
+    /**
+     * 저장본을 쓸 수 없으면 지출 거래를 한 번 훑어 만든다
+     */
+    @Override
+    protected void scanSource() {
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(1000);
+        RowCallbackHandler handler = rs -> record(rs.getString(1), rs.getBigDecimal(2));
+        cursor.query("SELECT description, amount FROM transaction_archive WHERE type = 'expense' ORDER BY id", handler);
+        cursor.query("SELECT description, amount FROM transaction WHERE type = 'expense' ORDER BY id", handler);
+    }
+
+    @Override
+    public void onTransactionCreated(Transaction transaction) {
+        if ("expense".equals(transaction.getType())) {
+            record(transaction.getDescription(), transaction.getAmount());
+        }
+    }
+
+    /**
+     * 저장 직전 거래에 이상 점수를 붙인다. 점수는 같은 카테고리의 지난 지출 중 이 금액 이하인 비율 (0~1)
+     */
+    public void score(Transaction transaction) {
+        if (!"expense".equals(transaction.getType()) || transaction.getAmount() == null) {
+            return;
+        }
+        QuantileSketch sketch = sketches.get(scope(CacheInvalidationBus.DEFAULT_USER, categoryOf(transaction.getDescription())));
+        if (sketch == null || sketch.getCount() < minSamples) {
+            return;
+        }
+        double score = sketch.rank(transaction.getAmount().doubleValue());
+        transaction.setAnomalyScore(score);
+        transaction.setAnomaly(score >= anomalyPercentile);
+    }
+
+    /**
+     * 카테고리별 분포 (category 가 all 이면 모든 카테고리를 합친 분포 하나)
+     */
+    public List<CategoryDistribution> distribution(String user, String category, List<Double> quantiles) {
+        List<CategoryDistribution> result = new ArrayList<>();
+        if (ALL.equals(category)) {
+            QuantileSketch merged = new QuantileSketch(SKETCH_K);
+            for (String each : TransactionCategories.ALL) {
+                QuantileSketch sketch = sketches.get(scope(user, each));
+                if (sketch != null) {
+                    merged.merge(sketch);
+                }
+            }
+            result.add(describe(ALL, merged, quantiles));
+            return result;
+        }
+        List<String> categories = category != null ? List.of(category) : TransactionCategories.ALL;
+        for (String each : categories) {
+            QuantileSketch sketch = sketches.get(scope(user, each));
+            result.add(describe(each, sketch != null ? sketch : new QuantileSketch(SKETCH_K), quantiles));
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean hasState() {
+        return !sketches.isEmpty();
+    }
+
+    @Override
+    protected void clearState() {
+        sketches.clear();
+        dirty.clear();
+    }
+
+    @Override
+    protected boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    @Override
+    protected void deleteSavedRows() {
+        sketchRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 바뀐 스케치만 저장
+     */
+    @Scheduled(fixedDelayString = "${savepet.anomaly.persist-interval-ms:60000}")
+    @PreDestroy // 다음 기동은 저장본과 저장본 위치에서 이어 가므로 종료 전에 마지막 변경까지 저장
+    public void persist() {
+        persistSnapshot();
+    }
+
+    @Override
+    protected void saveState(long covered) {
+        List<AmountSketch> rows = new ArrayList<>();
+        for (String scope : new ArrayList<>(dirty)) {
+            dirty.remove(scope);
+            QuantileSketch sketch = sketches.get(scope);
+            if (sketch != null) {
+                rows.add(new AmountSketch(scope, sketch.serialize(), covered));
+            }
+        }
+        sketchRepository.saveAll(rows);
+        sketchRepository.markCovered(covered);
+    }
+
+    private void record(String description, BigDecimal amount) {
+        if (amount == null) {
+            return;
+        }
+        String scope = scope(CacheInvalidationBus.DEFAULT_USER, categoryOf(description));
+        sketches.computeIfAbsent(scope, k -> new QuantileSketch(SKETCH_K)).update(amount.doubleValue());
+        dirty.add(scope);
+    }
+
+    private CategoryDistribution describe(String category, QuantileSketch sketch, List<Double> quantiles) {
+        Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        if (sketch.getCount() > 0) {
+            for (Double q : quantiles) {
+                percentiles.put("p" + BigDecimal.valueOf(q).movePointRight(2).stripTrailingZeros().toPlainString(),
+                    BigDecimal.valueOf(sketch.quantile(q)));
+            }
+        }
+        return new CategoryDistribution(category, sketch.getCount(),
+            sketch.getCount() > 0 ? BigDecimal.valueOf(sketch.getMin()) : null,
+            sketch.getCount() > 0 ? BigDecimal.valueOf(sketch.getMax()) : null,
+            percentiles);
+    }
+
+    private static String categoryOf(String description) {
+        return description != null ? TransactionCategories.categorize(description) : "기타";
+    }
+
+    private static String scope(String user, String category) {
+        return user + '\t' + category;
+    }
+
+    public static class CategoryDistribution {
+        private String category;
+        private Long count;
+        private BigDecimal min;
+        private BigDecimal max;
+        private Map<String, BigDecimal> percentiles;
+
+        public CategoryDistribution(String category, Long count, BigDecimal min, BigDecimal max,
+                                    Map<String, BigDecimal> percentiles) {
+            this.category = category;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+            this.percentiles = percentiles;
+        }
+
+        public String getCategory() { return category; }
+        public Long getCount() { return count; }
+        public BigDecimal getMin() { return min; }
+        public BigDecimal getMax() { return max; }
+        public Map<String, BigDecimal> getPercentiles() { return percentiles; }
+    }
+}
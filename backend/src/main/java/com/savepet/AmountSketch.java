@@ -0,0 +1,34 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 지출 금액 분위수 스케치 저장 (scope: 사용자\t카테고리)
+ */
+@Entity
+public class AmountSketch {
+    @Id
+    private String scope;
+
+    @Lob
+    private String data;
+
+    // 이 저장본이 반영한 마지막 아웃박스 이벤트 id (기동 시 다음 이벤트부터 이어 받는다)
+    private Long coveredEventId;
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public AmountSketch() {}
+
+    public AmountSketch(String scope, String data, Long coveredEventId) {
+        this.scope = scope;
+        this.data = data;
+        this.coveredEventId = coveredEventId;
+    }
+
+    public String getScope() { return scope; }
+    public String getData() { return data; }
+    public Long getCoveredEventId() { return coveredEventId; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
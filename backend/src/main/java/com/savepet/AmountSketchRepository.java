@@ -0,0 +1,14 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AmountSketchRepository extends JpaRepository<AmountSketch, String> {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AmountSketch s SET s.coveredEventId = :eventId")
+    int markCovered(@Param("eventId") Long eventId);
+}
@@ -2,6 +2,9 @@ package com.savepet;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/analytics")
@@ -11,18 +14,62 @@ public class AnalyticsController {
     @Autowired
     private AnalyticsService analyticsService;
     
+    @Autowired
+    private SingleFlight singleFlight;
+    
+    @Autowired
+    private MerchantStatsService merchantStats;
+    
+    @Autowired
+    private AmountDistributionService amountDistribution;
+    
     @GetMapping("/weekly")
     public AnalyticsService.WeeklyAnalysis getWeeklyAnalysis() {
-        return analyticsService.getWeeklyAnalysis();
+        return singleFlight.execute("analytics/weekly", analyticsService::getWeeklyAnalysis);
     }
     
     @GetMapping("/category")
     public AnalyticsService.CategoryAnalysis getCategoryAnalysis() {
-        return analyticsService.getCategoryAnalysis();
+        return singleFlight.execute("analytics/category", analyticsService::getCategoryAnalysis);
     }
     
     @GetMapping("/trend")
     public AnalyticsService.SavingTrend getSavingTrend() {
-        return analyticsService.getSavingTrend();
+        return singleFlight.execute("analytics/trend", analyticsService::getSavingTrend);
+    }
+    
+    @GetMapping("/monthly/{month}")
+    public AnalyticsService.MonthlyAnalysis getMonthlyAnalysis(@PathVariable String month) {
+        YearMonth target = YearMonth.parse(month);
+        return singleFlight.execute("analytics/monthly/" + target, () -> analyticsService.getMonthlyAnalysis(target));
+    }
+    
+    /**
+     * 자주 쓰는 지출처 상위 k 개. period=all (전체) 또는 week (weekStart 주, 기본 이번 주)
+     */
+    @GetMapping("/top-merchants")
+    public List<SpaceSaving.Entry> getTopMerchants(@RequestParam(defaultValue = "all") String period,
+                                                   @RequestParam(required = false) String weekStart,
+                                                   @RequestParam(defaultValue = "10") int k) {
+        if ("week".equals(period)) {
+            LocalDate week = weekStart != null ? LocalDate.parse(weekStart) : LocalDate.now();
+            return merchantStats.topForWeek(WeeklyReportService.weekStartOf(week), k);
+        }
+        return merchantStats.topAllTime(k);
+    }
+    
+    /**
+     * 카테고리별 지출 금액 분위수 (스케치 기반 근사). category 생략 시 카테고리마다, all 이면 전체를 합친 분포
+     */
+    @GetMapping("/distribution")
+    public List<AmountDistributionService.CategoryDistribution> getDistribution(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0.5,0.9,0.95,0.99") List<Double> quantiles) {
+        return amountDistribution.distribution(CacheInvalidationBus.DEFAULT_USER, category, quantiles);
+    }
+    
+    @GetMapping("/keyword-candidates")
+    public List<SpaceSaving.Entry> getKeywordCandidates(@RequestParam(defaultValue = "10") int k) {
+        return merchantStats.keywordCandidates(k);
     }
 }
\ No newline at end of file
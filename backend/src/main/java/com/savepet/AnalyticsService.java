@@ -1,46 +1,46 @@
 package com.savepet;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "savepet.service", histogram = true)
 public class AnalyticsService {
     
     @Autowired
-    private TransactionRepository transactionRepository;
+    private ParallelAggregator parallelAggregator;
     
+    @Autowired
+    private WeeklyReportService weeklyReportService;
+    
+    @Autowired
+    private ArchiveService archiveService;
+    
+    @Autowired
+    private BudgetPeriodService budgetPeriods;
+    
+    @Transactional(readOnly = true)
     public WeeklyAnalysis getWeeklyAnalysis() {
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusWeeks(4);
-        
-        List<Transaction> transactions = transactionRepository.findByOrderByCreatedAtDesc()
-            .stream()
-            .filter(t -> {
-                LocalDate transDate = t.getCreatedAt().toLocalDate();
-                return !transDate.isBefore(startDate) && !transDate.isAfter(endDate);
-            })
-            .collect(Collectors.toList());
         
         Map<String, BigDecimal> weeklyData = new LinkedHashMap<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd");
         
+        // 마감된 주는 WeeklyReport, 이번 주만 실시간 집계
         for (int i = 0; i < 4; i++) {
             LocalDate weekStart = endDate.minusWeeks(3 - i).with(java.time.DayOfWeek.MONDAY);
             LocalDate weekEnd = weekStart.plusDays(6);
             
-            BigDecimal weekExpenses = transactions.stream()
-                .filter(t -> "expense".equals(t.getType()))
-                .filter(t -> {
-                    LocalDate transDate = t.getCreatedAt().toLocalDate();
-                    return !transDate.isBefore(weekStart) && !transDate.isAfter(weekEnd);
-                })
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal weekExpenses = weeklyReportService.findReport(weekStart).getTotalExpenses();
             
             weeklyData.put(weekStart.format(formatter) + "~" + weekEnd.format(formatter), weekExpenses);
         }
@@ -48,60 +48,37 @@ public class AnalyticsService {
         return new WeeklyAnalysis(weeklyData);
     }
     
+    @Transactional(readOnly = true)
     public CategoryAnalysis getCategoryAnalysis() {
         LocalDate startDate = LocalDate.now().minusWeeks(4);
         
-        List<Transaction> expenses = transactionRepository.findByOrderByCreatedAtDesc()
-            .stream()
-            .filter(t -> "expense".equals(t.getType()))
-            .filter(t -> !t.getCreatedAt().toLocalDate().isBefore(startDate))
-            .collect(Collectors.toList());
+        // 행 수가 많으면 구간별 병렬 집계로 전환됨 (미래 날짜 거래도 포함)
+        ExpenseAccumulator accumulator = parallelAggregator.aggregate(
+            startDate.atStartOfDay(), LocalDateTime.of(9999, 1, 1, 0, 0), true);
         
         Map<String, BigDecimal> categoryData = new HashMap<>();
-        categoryData.put("커피/카페", BigDecimal.ZERO);
-        categoryData.put("간식", BigDecimal.ZERO);
-        categoryData.put("배달음식", BigDecimal.ZERO);
-        categoryData.put("쇼핑", BigDecimal.ZERO);
-        categoryData.put("교통", BigDecimal.ZERO);
-        categoryData.put("기타", BigDecimal.ZERO);
-        
-        for (Transaction transaction : expenses) {
-            String category = categorizeTransaction(transaction.getDescription());
-            categoryData.put(category, categoryData.get(category).add(transaction.getAmount()));
+        for (String category : TransactionCategories.ALL) {
+            categoryData.put(category, BigDecimal.ZERO);
         }
+        accumulator.getCategoryExpenses().forEach((category, amount) -> categoryData.merge(category, amount, BigDecimal::add));
         
         return new CategoryAnalysis(categoryData);
     }
     
+    @Transactional(readOnly = true)
     public SavingTrend getSavingTrend() {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusWeeks(8);
-        
-        List<Transaction> transactions = transactionRepository.findByOrderByCreatedAtDesc()
-            .stream()
-            .filter(t -> {
-                LocalDate transDate = t.getCreatedAt().toLocalDate();
-                return !transDate.isBefore(startDate) && !transDate.isAfter(endDate);
-            })
-            .collect(Collectors.toList());
-        
         Map<String, BigDecimal> weeklyExpenses = new LinkedHashMap<>();
         BigDecimal averageTarget = BigDecimal.valueOf(100000); // 기본 목표
         
-        for (int i = 0; i < 8; i++) {
-            LocalDate weekStart = endDate.minusWeeks(7 - i).with(java.time.DayOfWeek.MONDAY);
-            LocalDate weekEnd = weekStart.plusDays(6);
-            
-            BigDecimal weekExpense = transactions.stream()
-                .filter(t -> "expense".equals(t.getType()))
-                .filter(t -> {
-                    LocalDate transDate = t.getCreatedAt().toLocalDate();
-                    return !transDate.isBefore(weekStart) && !transDate.isAfter(weekEnd);
-                })
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            weeklyExpenses.put(weekStart.format(DateTimeFormatter.ofPattern("MM/dd")), weekExpense);
+        // 최근 8개 예산 기간 (seq 범위 조회 한 번, 마감된 기간은 기록된 결과 사용)
+        List<BudgetPeriod> periods = budgetPeriods.history(8);
+        BigDecimal targetSum = BigDecimal.ZERO;
+        for (BudgetPeriod period : periods) {
+            weeklyExpenses.put(period.getStartDate().format(DateTimeFormatter.ofPattern("MM/dd")), budgetPeriods.spent(period));
+            targetSum = targetSum.add(period.getTargetAmount());
+        }
+        if (!periods.isEmpty()) {
+            averageTarget = targetSum.divide(BigDecimal.valueOf(periods.size()), 0, RoundingMode.HALF_UP);
         }
         
         // 절약 트렌드 계산
@@ -122,22 +99,24 @@ public class AnalyticsService {
         return new SavingTrend(weeklyExpenses, isImproving, averageTarget);
     }
     
-    private String categorizeTransaction(String description) {
-        String desc = description.toLowerCase();
-        
-        if (desc.contains("커피") || desc.contains("카페") || desc.contains("스타벅스")) {
-            return "커피/카페";
-        } else if (desc.contains("간식") || desc.contains("과자") || desc.contains("디저트")) {
-            return "간식";
-        } else if (desc.contains("배달") || desc.contains("주문") || desc.contains("치킨") || desc.contains("피자")) {
-            return "배달음식";
-        } else if (desc.contains("쇼핑") || desc.contains("옷") || desc.contains("신발") || desc.contains("화장품")) {
-            return "쇼핑";
-        } else if (desc.contains("버스") || desc.contains("지하철") || desc.contains("택시") || desc.contains("교통")) {
-            return "교통";
-        } else {
-            return "기타";
+    @Transactional(readOnly = true)
+    public MonthlyAnalysis getMonthlyAnalysis(YearMonth month) {
+        Map<String, BigDecimal> categoryData = new LinkedHashMap<>();
+        for (String category : TransactionCategories.ALL) {
+            categoryData.put(category, BigDecimal.ZERO);
+        }
+        
+        // 보관된 달은 월별 합계를 읽고, 아직 옮겨지지 않은 (소급 입력된) 거래만 더한다
+        boolean archived = archiveService.isArchived(month);
+        if (archived) {
+            archiveService.archivedCategoryExpenses(month).forEach((category, amount) -> categoryData.merge(category, amount, BigDecimal::add));
         }
+        
+        ExpenseAccumulator live = parallelAggregator.aggregate(
+            month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(), false);
+        live.getCategoryExpenses().forEach((category, amount) -> categoryData.merge(category, amount, BigDecimal::add));
+        
+        return new MonthlyAnalysis(month.toString(), categoryData, archived);
     }
     
     public static class WeeklyAnalysis {
@@ -175,4 +154,20 @@ public class AnalyticsService {
         public Boolean getImproving() { return improving; }
         public BigDecimal getAverageTarget() { return averageTarget; }
     }
+    
+    public static class MonthlyAnalysis {
+        private String month;
+        private Map<String, BigDecimal> categoryExpenses;
+        private Boolean archived;
+        
+        public MonthlyAnalysis(String month, Map<String, BigDecimal> categoryExpenses, Boolean archived) {
+            this.month = month;
+            this.categoryExpenses = categoryExpenses;
+            this.archived = archived;
+        }
+        
+        public String getMonth() { return month; }
+        public Map<String, BigDecimal> getCategoryExpenses() { return categoryExpenses; }
+        public Boolean getArchived() { return archived; }
+    }
 }
\ No newline at end of file
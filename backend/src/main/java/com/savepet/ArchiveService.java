@@ -0,0 +1,164 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 거래 보관 처리
+ * 보관 기간(savepet.archive.horizon-months)이 지난 달의 거래를 TransactionArchive 로 옮기고
+ * 월별/카테고리별 합계(MonthlySummary)를 남긴다. 분석은 보관된 달을 합계로 대신 읽는다.
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 스케줄 작업이 등록되도록
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionArchiveRepository archiveRepository;
+
+    @Autowired
+    private MonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Value("${savepet.archive.horizon-months:6}")
+    private int horizonMonths;
+
+    public YearMonth cutoffMonth() {
+        return YearMonth.now().minusMonths(horizonMonths);
+    }
+
+    public boolean isArchived(YearMonth month) {
+        return month.isBefore(cutoffMonth());
+    }
+
+    /**
+     * 매일 새벽 보관 기간이 지난 달을 한 달씩 옮긴다
+     */
+    @Scheduled(cron = "${savepet.archive.cron:0 30 3 * * *}")
+    @Transactional
+    public void archiveExpired() {
+        LocalDateTime oldest = transactionRepository.findOldestCreatedAt();
+        if (oldest == null) {
+            return;
+        }
+        YearMonth cutoff = cutoffMonth();
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            int moved = archiveMonth(month);
+            if (moved > 0) {
+                log.info("거래 보관 완료: {} ({}건)", month, moved);
+            }
+        }
+    }
+
+    /**
+     * 한 달의 거래를 보관 테이블로 옮기고 월별 합계를 다시 계산 (INSERT ... SELECT, 범위 DELETE, GROUP BY 각 한 번)
+     */
+    @Transactional
+    public int archiveMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        int moved = archiveRepository.copyFromTransactions(from, to);
+        if (moved == 0) {
+            return 0;
+        }
+        transactionRepository.deleteByDateRange(from, to);
+        // 이미 합계가 있는 달(보관 후 소급 입력된 거래)도 보관 테이블 전체로 다시 계산된다
+        summarizeMonth(month);
+        outbox.transactionsArchived(from, to);
+        dataVersion.bump();
+        return moved;
+    }
+
+    /**
+     * 한 달의 월별 합계를 보관 테이블에서 다시 계산 (GROUP BY 한 번)
+     */
+    @Transactional
+    public void summarizeMonth(YearMonth month) {
+        summaryRepository.deleteByMonthRange(month.atDay(1), month.plusMonths(1).atDay(1));
+        jdbcTemplate.update(
+            "INSERT INTO monthly_summary (month_start, type, category, total_amount, transaction_count) " +
+            "SELECT ?, type, category, COALESCE(SUM(amount), 0), COUNT(*) FROM (" +
+            "SELECT type, amount, " + TransactionCategories.sqlCase("description") + " AS category " +
+            "FROM transaction_archive WHERE created_at >= ? AND created_at < ?) a GROUP BY type, category",
+            Date.valueOf(month.atDay(1)), month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    @Transactional
+    public void summarizeMonths(Collection<LocalDateTime> createdAts) {
+        createdAts.stream()
+            .filter(createdAt -> createdAt != null)
+            .map(YearMonth::from)
+            .distinct()
+            .forEach(this::summarizeMonth);
+    }
+
+    /**
+     * [from, to) 기간의 보관 거래가 삭제된 뒤 월별 합계 정리.
+     * 기간에 걸친 달의 합계를 지우고, 기간이 일부만 덮는 처음/마지막 달만 다시 계산한다.
+     */
+    @Transactional
+    public void onRangeDeleted(LocalDateTime from, LocalDateTime to) {
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to.minusNanos(1));
+        summaryRepository.deleteByMonthRange(first.atDay(1), last.plusMonths(1).atDay(1));
+        summarizeMonth(first);
+        if (!last.equals(first)) {
+            summarizeMonth(last);
+        }
+    }
+
+    /**
+     * 보관된 달의 카테고리별 지출 합계
+     */
+    @Transactional(readOnly = true)
+    public Map<String, BigDecimal> archivedCategoryExpenses(YearMonth month) {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        for (MonthlySummary summary : summaryRepository.findByMonthStart(month.atDay(1))) {
+            if ("expense".equals(summary.getType())) {
+                result.merge(summary.getCategory(), summary.getTotalAmount(), BigDecimal::add);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 보관된 달의 원본 거래 재구성
+     */
+    @Transactional(readOnly = true)
+    public List<Transaction> reconstruct(YearMonth month) {
+        List<Transaction> result = new ArrayList<>();
+        for (TransactionArchive archived : archiveRepository.findByDateRange(
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay())) {
+            result.add(archived.toTransaction());
+        }
+        return result;
+    }
+}
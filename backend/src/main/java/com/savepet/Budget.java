@@ -9,7 +9,9 @@ public class Budget {
     @Id
     private Long id = 1L;
 
-    private String period = "weekly";
+    // weekly / monthly / custom (custom 은 periodDays 일 단위)
+    private String period = BudgetPeriod.WEEKLY;
+    private Integer periodDays = 7;
     private BigDecimal targetAmount = BigDecimal.valueOf(100000);
     private LocalDate startDate;
     private LocalDate endDate;
@@ -27,6 +29,9 @@ public class Budget {
     public String getPeriod() { return period; }
     public void setPeriod(String period) { this.period = period; }
 
+    public Integer getPeriodDays() { return periodDays; }
+    public void setPeriodDays(Integer periodDays) { this.periodDays = periodDays; }
+
     public BigDecimal getTargetAmount() { return targetAmount; }
     public void setTargetAmount(BigDecimal targetAmount) {
         this.targetAmount = targetAmount;
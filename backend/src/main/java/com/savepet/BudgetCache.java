@@ -0,0 +1,34 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Optional;
+
+/**
+ * 현재 예산 (id 1) 읽기 캐시. 예산을 저장하는 곳에서 evict() 를 호출하면 모든 인스턴스에서 지워진다.
+ * 캐시에 올릴 값은 복제본이 아니라 쓰기 데이터소스에서 읽는다.
+ */
+@Component
+public class BudgetCache {
+
+    private static final String ENTITY = "budget";
+    private static final String CURRENT = "1";
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private CacheInvalidationBus cacheBus;
+
+    @Autowired
+    private PrimaryRead primaryRead;
+
+    public Optional<Budget> current() {
+        CoherentCache<Optional<Budget>> cache = cacheBus.cache(ENTITY);
+        return cache.get(CacheInvalidationBus.DEFAULT_USER, CURRENT, () -> primaryRead.get(() -> budgetRepository.findById(1L)));
+    }
+
+    public void evict() {
+        cacheBus.invalidate(ENTITY, CURRENT);
+    }
+}
@@ -1,8 +1,11 @@
 package com.savepet;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/budget")
@@ -12,15 +15,76 @@ public class BudgetController {
     @Autowired
     private BudgetRepository budgetRepository;
 
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private BudgetCache budgetCache;
+
+    @Autowired
+    private BudgetPeriodService budgetPeriods;
+
     @GetMapping("/current")
     public Budget getCurrentBudget() {
-        return budgetRepository.findById(1L).orElse(new Budget());
+        return budgetCache.current().orElse(new Budget());
     }
 
     @PostMapping("/set")
+    @Transactional
     public Budget setBudget(@RequestParam BigDecimal amount) {
         Budget budget = budgetRepository.findById(1L).orElse(new Budget());
         budget.setTargetAmount(amount);
-        return budgetRepository.save(budget);
+        Budget saved = budgetRepository.save(budget);
+        budgetPeriods.onBudgetChanged(saved);
+        outbox.publish(OutboxEvent.BUDGET_UPDATED, Map.of("id", saved.getId(), "targetAmount", saved.getTargetAmount()));
+        budgetCache.evict();
+        dataVersion.bump();
+        return saved;
+    }
+
+    /**
+     * 예산 기간 종류 변경 (weekly, monthly, custom + days). 진행 중인 기간의 끝날부터 바로 반영된다.
+     */
+    @PostMapping("/period")
+    @Transactional
+    public Budget setPeriod(@RequestParam String kind, @RequestParam(required = false) Integer days) {
+        if (!BudgetPeriod.WEEKLY.equals(kind) && !BudgetPeriod.MONTHLY.equals(kind) && !BudgetPeriod.CUSTOM.equals(kind)) {
+            throw new IllegalArgumentException("지원하지 않는 예산 기간: " + kind);
+        }
+        if (BudgetPeriod.CUSTOM.equals(kind) && (days == null || days < 1)) {
+            throw new IllegalArgumentException("사용자 지정 기간은 1일 이상이어야 합니다: " + days);
+        }
+        Budget budget = budgetRepository.findById(1L).orElse(new Budget());
+        budget.setPeriod(kind);
+        if (days != null) {
+            budget.setPeriodDays(days);
+        }
+        Budget saved = budgetRepository.save(budget);
+        budgetPeriods.onBudgetChanged(saved);
+        outbox.publish(OutboxEvent.BUDGET_UPDATED, Map.of("id", saved.getId(), "period", saved.getPeriod()));
+        budgetCache.evict();
+        dataVersion.bump();
+        return saved;
+    }
+
+    @GetMapping("/periods/current")
+    public BudgetPeriod getCurrentPeriod() {
+        return budgetPeriods.current();
+    }
+
+    /**
+     * n 기간 전 (0 = 현재)
+     */
+    @GetMapping("/periods/back/{n}")
+    public BudgetPeriod getPeriodBack(@PathVariable int n) {
+        return budgetPeriods.back(n);
+    }
+
+    @GetMapping("/periods")
+    public List<BudgetPeriod> getPeriods(@RequestParam(defaultValue = "8") int count) {
+        return budgetPeriods.history(count);
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 예산 기간 한 회차 (주간/월간/사용자 지정 일수)
+ * seq 는 1 부터 끊김 없이 증가하므로 "N 기간 전" 은 seq - N 한 번의 인덱스 조회로 찾는다.
+ * 마감되면 그 기간의 지출과 절약액(최종 결과)을 기록한다.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_budget_period_seq", columnList = "seq", unique = true),
+    @Index(name = "idx_budget_period_start", columnList = "startDate")
+})
+public class BudgetPeriod {
+    public static final String WEEKLY = "weekly";
+    public static final String MONTHLY = "monthly";
+    public static final String CUSTOM = "custom";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long seq;
+    private String kind;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal targetAmount;
+    private BigDecimal spent;
+    private BigDecimal saved;
+    private Boolean closed = false;
+    private LocalDateTime closedAt;
+
+    public BudgetPeriod() {}
+
+    public BudgetPeriod(Long seq, String kind, LocalDate startDate, LocalDate endDate, BigDecimal targetAmount) {
+        this.seq = seq;
+        this.kind = kind;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.targetAmount = targetAmount;
+    }
+
+    /**
+     * 기간을 마감하고 결과를 기록 (소급 입력으로 다시 마감하면 결과만 갱신)
+     */
+    public void close(BigDecimal spent) {
+        this.spent = spent;
+        this.saved = targetAmount.subtract(spent);
+        this.closed = true;
+        this.closedAt = LocalDateTime.now();
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    public long getLengthDays() {
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+
+    public BigDecimal getDailyTarget() {
+        return targetAmount.divide(BigDecimal.valueOf(getLengthDays()), 2, RoundingMode.HALF_UP);
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getSeq() { return seq; }
+    public void setSeq(Long seq) { this.seq = seq; }
+
+    public String getKind() { return kind; }
+    public void setKind(String kind) { this.kind = kind; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public BigDecimal getTargetAmount() { return targetAmount; }
+    public void setTargetAmount(BigDecimal targetAmount) { this.targetAmount = targetAmount; }
+
+    public BigDecimal getSpent() { return spent; }
+    public void setSpent(BigDecimal spent) { this.spent = spent; }
+
+    public BigDecimal getSaved() { return saved; }
+    public void setSaved(BigDecimal saved) { this.saved = saved; }
+
+    public Boolean getClosed() { return closed; }
+    public void setClosed(Boolean closed) { this.closed = closed; }
+
+    public LocalDateTime getClosedAt() { return closedAt; }
+    public void setClosedAt(LocalDateTime closedAt) { this.closedAt = closedAt; }
+}
@@ -0,0 +1,16 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BudgetPeriodRepository extends JpaRepository<BudgetPeriod, Long> {
+    BudgetPeriod findBySeq(Long seq);
+    BudgetPeriod findTopByOrderBySeqDesc();
+    List<BudgetPeriod> findBySeqBetweenOrderBySeqAsc(Long from, Long to);
+
+    // [from, to] 날짜와 겹치는 마감된 기간 (소급 입력/삭제 시 재마감 대상)
+    List<BudgetPeriod> findByClosedTrueAndStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDate to, LocalDate from);
+}
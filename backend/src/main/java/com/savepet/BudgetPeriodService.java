@@ -0,0 +1,283 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예산 기간 엔진
+ * 기간마다 BudgetPeriod 한 행을 남기고, 기간이 끝나면 결과를 기록한 뒤 다음 기간을 연다(롤오버).
+ * 현재 기간은 무효화 버스 캐시에 두고, 지난 기간은 seq 인덱스로 바로 찾는다.
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 롤오버 스케줄이 등록되도록
+public class BudgetPeriodService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetPeriodService.class);
+
+    private static final String ENTITY = "budget-period";
+    private static final String CURRENT = "current";
+
+    // 처음 만들 때 채워 둘 과거 기간 수 (분석 화면의 최대 범위)
+    private static final int BACKFILL_PERIODS = 8;
+
+    @Autowired
+    private BudgetPeriodRepository periodRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ParallelAggregator parallelAggregator;
+
+    @Autowired
+    private CacheInvalidationBus cacheBus;
+
+    @Autowired
+    private BudgetCache budgetCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PrimaryRead primaryRead;
+
+    /**
+     * start 에 시작하는 기간의 마지막 날. 종류가 바뀐 직후처럼 중간에 시작하면 그 주/달 끝까지만 간다.
+     */
+    public static LocalDate endOf(String kind, int days, LocalDate start) {
+        switch (kind) {
+            case BudgetPeriod.MONTHLY:
+                return start.withDayOfMonth(start.lengthOfMonth());
+            case BudgetPeriod.CUSTOM:
+                return start.plusDays(Math.max(1, days) - 1);
+            default:
+                return start.with(DayOfWeek.SUNDAY);
+        }
+    }
+
+    /**
+     * end 에 끝나는 기간의 첫날 (과거 기간을 채울 때 사용)
+     */
+    private static LocalDate startOf(String kind, int days, LocalDate end) {
+        switch (kind) {
+            case BudgetPeriod.MONTHLY:
+                return end.withDayOfMonth(1);
+            case BudgetPeriod.CUSTOM:
+                return end.minusDays(Math.max(1, days) - 1);
+            default:
+                return end.with(DayOfWeek.MONDAY);
+        }
+    }
+
+    private static int daysOf(Budget budget) {
+        return budget.getPeriodDays() != null ? budget.getPeriodDays() : 7;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        BudgetPeriod current = current();
+        log.info("현재 예산 기간: #{} {} {} ~ {}", current.getSeq(), current.getKind(), current.getStartDate(), current.getEndDate());
+    }
+
+    /**
+     * 매일 0시에 끝난 기간을 마감하고 다음 기간을 연다
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rolloverIfDue() {
+        current();
+    }
+
+    /**
+     * 현재 기간. 캐시된 기간이 이미 끝났으면 그 자리에서 롤오버한다.
+     */
+    public BudgetPeriod current() {
+        CoherentCache<BudgetPeriod> cache = cacheBus.cache(ENTITY);
+        BudgetPeriod period = cache.get(CacheInvalidationBus.DEFAULT_USER, CURRENT,
+            () -> primaryRead.get(periodRepository::findTopByOrderBySeqDesc));
+        if (period == null || LocalDate.now().isAfter(period.getEndDate())) {
+            period = rollover();
+        }
+        return period;
+    }
+
+    /**
+     * n 기간 전 (0 이면 현재 기간). 기록이 시작되기 전이면 null
+     */
+    public BudgetPeriod back(int n) {
+        BudgetPeriod current = current();
+        if (n <= 0) {
+            return current;
+        }
+        return periodRepository.findBySeq(current.getSeq() - n);
+    }
+
+    /**
+     * 현재 기간을 포함한 최근 count 개 기간 (오래된 순)
+     */
+    public List<BudgetPeriod> history(int count) {
+        BudgetPeriod current = current();
+        return periodRepository.findBySeqBetweenOrderBySeqAsc(current.getSeq() - Math.max(1, count) + 1, current.getSeq());
+    }
+
+    /**
+     * 기간의 지출. 마감된 기간은 기록된 결과를, 진행 중인 기간은 SUM 한 번으로 계산
+     */
+    public BigDecimal spent(BudgetPeriod period) {
+        if (period.getClosed()) {
+            return period.getSpent();
+        }
+        return transactionRepository.sumExpenses(
+            period.getStartDate().atStartOfDay(), period.getEndDate().plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 예산 금액/종류가 바뀌면 진행 중인 기간에 반영 (종류가 바뀌면 시작일은 그대로 두고 끝날만 다시 정한다)
+     */
+    @Transactional
+    public void onBudgetChanged(Budget budget) {
+        BudgetPeriod open = periodRepository.findTopByOrderBySeqDesc();
+        if (open == null || open.getClosed()) {
+            return;
+        }
+        open.setTargetAmount(budget.getTargetAmount());
+        open.setKind(budget.getPeriod());
+        open.setEndDate(endOf(budget.getPeriod(), daysOf(budget), open.getStartDate()));
+        periodRepository.save(open);
+        budget.setStartDate(open.getStartDate());
+        budget.setEndDate(open.getEndDate());
+        cacheBus.invalidate(ENTITY, CURRENT);
+    }
+
+    /**
+     * 이미 마감된 기간에 거래가 소급 입력/삭제되면 그 기간의 결과를 다시 기록
+     */
+    @Transactional
+    public void onTransactionsChanged(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        for (BudgetPeriod period : periodRepository.findByClosedTrueAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                to.toLocalDate(), from.toLocalDate())) {
+            close(period);
+            log.debug("마감된 예산 기간에 거래 변경 발생, 결과 재기록: #{}", period.getSeq());
+        }
+    }
+
+    /**
+     * 기록을 지운다. 다음 조회 때 현재 예산 기준으로 다시 채워진다.
+     */
+    @Transactional
+    public void reset() {
+        periodRepository.deleteAllInBatch();
+        cacheBus.invalidate(ENTITY, CURRENT);
+    }
+
+    /**
+     * 끝난 기간을 마감하고 오늘이 들어가는 기간까지 연다. 여러 인스턴스가 동시에 넘기면 seq 유니크 인덱스에
+     * 걸린 쪽이 먼저 넘긴 결과를 읽는다. 읽기 전용 트랜잭션에서 불려도 쓸 수 있도록 별도 트랜잭션에서 실행
+     */
+    public synchronized BudgetPeriod rollover() {
+        TransactionTemplate separate = new TransactionTemplate(transactionManager);
+        separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        BudgetPeriod current;
+        try {
+            current = separate.execute(status -> advance());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 인스턴스가 먼저 예산 기간을 넘김: {}", e.getMessage());
+            current = separate.execute(status -> periodRepository.findTopByOrderBySeqDesc());
+        }
+        cacheBus.invalidate(ENTITY, CURRENT);
+        return current;
+    }
+
+    private BudgetPeriod advance() {
+        Budget budget = budgetRepository.findById(1L).orElse(null);
+        Budget settings = budget != null ? budget : new Budget();
+        String kind = settings.getPeriod();
+        int days = daysOf(settings);
+        LocalDate today = LocalDate.now();
+
+        BudgetPeriod last = periodRepository.findTopByOrderBySeqDesc();
+        if (last == null) {
+            last = backfill(settings, today);
+        }
+        while (today.isAfter(last.getEndDate())) {
+            close(last);
+            LocalDate start = last.getEndDate().plusDays(1);
+            last = periodRepository.save(new BudgetPeriod(
+                last.getSeq() + 1, kind, start, endOf(kind, days, start), settings.getTargetAmount()));
+            log.info("예산 기간 시작: #{} {} ~ {}", last.getSeq(), last.getStartDate(), last.getEndDate());
+        }
+
+        if (budget != null && !(last.getStartDate().equals(budget.getStartDate()) && last.getEndDate().equals(budget.getEndDate()))) {
+            budget.setStartDate(last.getStartDate());
+            budget.setEndDate(last.getEndDate());
+            budgetRepository.save(budget);
+            budgetCache.evict();
+        }
+        return last;
+    }
+
+    /**
+     * 기록이 없을 때 오늘이 들어가는 기간과 그 앞의 BACKFILL_PERIODS 개 기간을 만든다
+     */
+    private BudgetPeriod backfill(Budget settings, LocalDate today) {
+        String kind = settings.getPeriod();
+        int days = daysOf(settings);
+        LocalDate start = BudgetPeriod.CUSTOM.equals(kind) ? today : startOf(kind, days, today);
+
+        List<LocalDate> starts = new ArrayList<>();
+        starts.add(start);
+        for (int i = 0; i < BACKFILL_PERIODS; i++) {
+            start = startOf(kind, days, start.minusDays(1));
+            starts.add(start);
+        }
+        Collections.reverse(starts);
+
+        BudgetPeriod period = null;
+        long seq = 1;
+        for (LocalDate periodStart : starts) {
+            period = new BudgetPeriod(seq++, kind, periodStart, endOf(kind, days, periodStart), settings.getTargetAmount());
+            if (period.getEndDate().isBefore(today)) {
+                period.close(expenses(period));
+            }
+            period = periodRepository.save(period);
+        }
+        log.info("예산 기간 기록 생성: {}개 ({})", starts.size(), kind);
+        return period;
+    }
+
+    private void close(BudgetPeriod period) {
+        period.close(expenses(period));
+        periodRepository.save(period);
+        log.info("예산 기간 마감: #{} 목표={}, 지출={}, 절약={}",
+            period.getSeq(), period.getTargetAmount(), period.getSpent(), period.getSaved());
+    }
+
+    private BigDecimal expenses(BudgetPeriod period) {
+        // 보관된 거래까지 포함해야 오래된 기간을 다시 마감해도 결과가 같다
+        return parallelAggregator.aggregate(
+            period.getStartDate().atStartOfDay(), period.getEndDate().plusDays(1).atStartOfDay(), true).getTotalExpenses();
+    }
+}
@@ -0,0 +1,34 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+public class CacheBusConfig {
+
+    // loopback: 같은 JVM 안에서만 전달, socket: savepet.cache-bus.socket.port 에서 받고 peers 로 보냄
+    @Bean(destroyMethod = "close")
+    public InvalidationTransport invalidationTransport(
+            @Value("${savepet.cache-bus.transport:loopback}") String transport,
+            @Value("${savepet.cache-bus.socket.port:47100}") int port,
+            @Value("${savepet.cache-bus.socket.peers:}") String peers) throws SocketException {
+        switch (transport) {
+            case "loopback":
+                return new LoopbackTransport();
+            case "socket":
+                List<Integer> peerPorts = Arrays.stream(peers.split(","))
+                    .map(String::trim)
+                    .filter(p -> !p.isEmpty())
+                    .map(Integer::valueOf)
+                    .collect(Collectors.toList());
+                return new LocalSocketTransport(port, peerPorts);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 캐시 버스 전송: " + transport);
+        }
+    }
+}
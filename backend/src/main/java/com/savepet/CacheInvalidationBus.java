@@ -0,0 +1,89 @@
+package com.savepet;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 인스턴스 사이의 캐시 일관성
+ * 쓰기가 커밋되면 로컬 캐시를 지우고 (엔티티, 사용자, 키) 무효화 메시지를 전송 수단으로 알린다.
+ * 다른 노드는 메시지를 받아 같은 키를 지우고, 데이터 버전도 올려 버전을 키로 쓰는 분석 결과가 다시 계산되게 한다.
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 기동 시 무효화 메시지 구독이 시작되도록
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String DEFAULT_USER = "default";
+    private static final String DATA_VERSION = "data-version";
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Value("${savepet.cache-bus.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CoherentCache<?>> caches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        transport.subscribe(this::onMessage);
+        dataVersion.addListener(() -> transport.send(
+            new InvalidationMessage(nodeId, DATA_VERSION, InvalidationMessage.ALL, InvalidationMessage.ALL)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> CoherentCache<V> cache(String entity) {
+        return (CoherentCache<V>) caches.computeIfAbsent(entity, e -> new CoherentCache<>(Duration.ofSeconds(ttlSeconds)));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 로컬 무효화 + 다른 노드 알림
+     */
+    public void invalidate(String entity, String user, String key) {
+        AfterCommit.run(() -> {
+            apply(entity, user, key);
+            transport.send(new InvalidationMessage(nodeId, entity, user, key));
+        });
+    }
+
+    public void invalidate(String entity, String key) {
+        invalidate(entity, DEFAULT_USER, key);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void onMessage(InvalidationMessage message) {
+        if (nodeId.equals(message.getOrigin())) {
+            return;
+        }
+        log.debug("원격 무효화: {}", message);
+        if (DATA_VERSION.equals(message.getEntity())) {
+            dataVersion.bumpRemote();
+        } else {
+            apply(message.getEntity(), message.getUser(), message.getKey());
+        }
+    }
+
+    private void apply(String entity, String user, String key) {
+        CoherentCache<?> cache = caches.get(entity);
+        if (cache != null) {
+            cache.invalidate(user, key);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.savepet;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,6 +17,13 @@ public class Character {
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime lastEvolution;
     
+    // 진행 카운터 (미션 테이블/경험치 원장에서 파생, ProgressionConsistencyChecker 로 재구성 가능)
+    private Integer completedMissions = 0;
+    private Integer stageMissionsCompleted = 0;
+    private LocalDate lastWeeklySettlement;
+    private LocalDate lastDailySettlement;
+    private LocalDate lastAchievementSettlement;
+    
     public Character() {}
     
     public Character(String name) {
@@ -43,11 +51,40 @@ public class Character {
     public LocalDateTime getLastEvolution() { return lastEvolution; }
     public void setLastEvolution(LocalDateTime lastEvolution) { this.lastEvolution = lastEvolution; }
     
+    public Integer getCompletedMissions() { return completedMissions; }
+    public void setCompletedMissions(Integer completedMissions) { this.completedMissions = completedMissions; }
+    
+    public Integer getStageMissionsCompleted() { return stageMissionsCompleted; }
+    public void setStageMissionsCompleted(Integer stageMissionsCompleted) { this.stageMissionsCompleted = stageMissionsCompleted; }
+    
+    public LocalDate getLastWeeklySettlement() { return lastWeeklySettlement; }
+    public void setLastWeeklySettlement(LocalDate lastWeeklySettlement) { this.lastWeeklySettlement = lastWeeklySettlement; }
+    
+    public LocalDate getLastDailySettlement() { return lastDailySettlement; }
+    public void setLastDailySettlement(LocalDate lastDailySettlement) { this.lastDailySettlement = lastDailySettlement; }
+    
+    public LocalDate getLastAchievementSettlement() { return lastAchievementSettlement; }
+    public void setLastAchievementSettlement(LocalDate lastAchievementSettlement) { this.lastAchievementSettlement = lastAchievementSettlement; }
+    
+    /**
+     * 미션 완료를 카운터에 반영 (미션 저장과 같은 트랜잭션에서 호출)
+     */
+    public void recordMissionCompleted(String missionStage) {
+        completedMissions = (completedMissions != null ? completedMissions : 0) + 1;
+        if (stage.equals(missionStage)) {
+            stageMissionsCompleted = (stageMissionsCompleted != null ? stageMissionsCompleted : 0) + 1;
+        }
+    }
+    
     public void addExperience(int exp) {
         this.experience += exp;
     }
     
-    public boolean canEvolve(int completedMissions) {
+    /**
+     * 진화 조건 - 경험치와 완료 미션 카운터만 보므로 조회가 필요 없다
+     */
+    public boolean canEvolve() {
+        int completedMissions = this.completedMissions != null ? this.completedMissions : 0;
         switch (stage) {
             case "EGG": return experience >= 100 && completedMissions >= 1;
             case "BABY": return experience >= 500 && completedMissions >= 2;
@@ -63,6 +100,7 @@ public class Character {
             this.stage = newStage;
             this.level++;
             this.lastEvolution = LocalDateTime.now();
+            this.stageMissionsCompleted = 0;
         }
     }
     
@@ -1,20 +1,28 @@
 package com.savepet;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.DayOfWeek;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/character")
 @CrossOrigin(origins = "http://localhost:3000")
 public class CharacterController {
 
+    private static final Logger log = LoggerFactory.getLogger(CharacterController.class);
+
     @Autowired
     private BudgetRepository budgetRepository;
     
@@ -22,63 +30,97 @@ public class CharacterController {
     private TransactionRepository transactionRepository;
     
     @Autowired
-    private CharacterRepository characterRepository;
+    private CharacterService characterService;
 
     @Autowired
-    private CharacterService characterService;
+    private ExperienceLedgerService experienceLedger;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private SpendForecaster forecaster;
+
+    @Autowired
+    private LeaderboardService leaderboard;
+
+    @Autowired
+    private ProgressionConsistencyChecker consistencyChecker;
+
+    @Autowired
+    private BudgetCache budgetCache;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BudgetPeriodService budgetPeriods;
+
+    @Autowired
+    private FanOut fanOut;
 
     @GetMapping
     public Character getCharacter() {
         return characterService.getOrCreateCharacter();
     }
 
+    /**
+     * 절약 현황 (SavingStatus). 팬아웃 모드에서는 부분 조회를 동시에 실행하고, 기다리는 동안 요청 스레드를 반납한다.
+     */
+    @GetMapping("/status")
+    public CompletableFuture<CharacterService.SavingStatus> getStatus() {
+        if (!fanOut.isEnabled()) {
+            return CompletableFuture.completedFuture(characterService.getCurrentSavingStatus());
+        }
+        return characterService.getCurrentSavingStatusAsync();
+    }
+
     @GetMapping("/saving-status")
     public Map<String, Object> getSavingStatus() {
+        // 조회만 하므로 읽기 전용 트랜잭션 (읽기 데이터소스, 플러시/스냅샷 없음)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return singleFlight.execute("character/saving-status", () -> readOnly.execute(status -> computeSavingStatus()));
+    }
+
+    private Map<String, Object> computeSavingStatus() {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            // 예산 조회
-            Budget budget = budgetRepository.findById(1L).orElse(null);
-            BigDecimal weeklyTarget = (budget != null) ? budget.getTargetAmount() : BigDecimal.valueOf(100000);
-            
-            // 주간 지출 계산
-            LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
-            LocalDate weekEnd = weekStart.plusDays(6);
+            // 현재 예산 기간 (목표와 시작/끝날)
+            BudgetPeriod period = budgetPeriods.current();
+            BigDecimal weeklyTarget = period.getTargetAmount();
             
-            List<Transaction> allTransactions = transactionRepository.findByOrderByCreatedAtDesc();
+            LocalDateTime weekFrom = period.getStartDate().atStartOfDay();
+            LocalDateTime weekTo = period.getEndDate().plusDays(1).atStartOfDay();
             
-            BigDecimal weeklyExpenses = allTransactions.stream()
-                .filter(t -> "expense".equals(t.getType()))
-                .filter(t -> {
-                    LocalDate transDate = t.getCreatedAt().toLocalDate();
-                    return !transDate.isBefore(weekStart) && !transDate.isAfter(weekEnd);
-                })
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            // 합계는 SUM 한 번, 커피 지출은 설명/금액 두 컬럼만 조회
+            BigDecimal weeklyExpenses = transactionRepository.sumExpenses(weekFrom, weekTo);
             
             BigDecimal weeklySaved = weeklyTarget.subtract(weeklyExpenses);
             
             // 일일 계산
-            BigDecimal dailyTarget = weeklyTarget.divide(BigDecimal.valueOf(7), 2, RoundingMode.HALF_UP);
+            BigDecimal dailyTarget = period.getDailyTarget();
             
             LocalDate today = LocalDate.now();
-            BigDecimal todayExpenses = allTransactions.stream()
-                .filter(t -> "expense".equals(t.getType()))
-                .filter(t -> t.getCreatedAt().toLocalDate().equals(today))
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal todayExpenses = transactionRepository.sumExpenses(
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay());
             
             BigDecimal todaySaved = dailyTarget.subtract(todayExpenses);
             
             // 커피 관련 지출
-            BigDecimal coffeeExpenses = allTransactions.stream()
-                .filter(t -> "expense".equals(t.getType()))
-                .filter(t -> !t.getCreatedAt().toLocalDate().isBefore(weekStart))
+            BigDecimal coffeeExpenses = transactionRepository.findExpenseLines(weekFrom, weekTo).stream()
                 .filter(t -> {
                     String desc = t.getDescription().toLowerCase();
                     return desc.contains("커피") || desc.contains("카페") || desc.contains("스타벅스");
                 })
-                .map(Transaction::getAmount)
+                .map(ExpenseLine::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
             
             BigDecimal coffeeTarget = weeklyTarget.multiply(BigDecimal.valueOf(0.15));
@@ -103,20 +145,17 @@ public class CharacterController {
             missionProgress.put("completed", false);
             
             result.put("missionProgress", missionProgress);
+            result.put("periodKind", period.getKind());
+            result.put("periodStart", period.getStartDate());
+            result.put("periodEnd", period.getEndDate());
+            // 예측은 주 단위이므로 기간 목표를 주간 환산해서 비교
+            result.put("forecast", forecaster.forecast(dailyTarget.multiply(BigDecimal.valueOf(7))));
             
-            // 디버그 로그
-            System.out.println("=== Saving Status Debug ===");
-            System.out.println("예산: " + weeklyTarget);
-            System.out.println("주간 지출: " + weeklyExpenses);
-            System.out.println("주간 절약: " + weeklySaved);
-            System.out.println("오늘 지출: " + todayExpenses);
-            System.out.println("오늘 절약: " + todaySaved);
-            System.out.println("커피 지출: " + coffeeExpenses);
-            System.out.println("==========================");
+            log.debug("Saving status: 예산={}, 주간 지출={}, 주간 절약={}, 오늘 지출={}, 오늘 절약={}, 커피 지출={}",
+                weeklyTarget, weeklyExpenses, weeklySaved, todayExpenses, todaySaved, coffeeExpenses);
             
         } catch (Exception e) {
-            System.err.println("SavingStatus 계산 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SavingStatus 계산 오류", e);
             
             // 기본값
             result.put("weeklyTarget", BigDecimal.valueOf(100000));
@@ -141,26 +180,69 @@ public class CharacterController {
 
     @GetMapping("/budget")
     public Budget getCurrentBudget() {
-        return budgetRepository.findById(1L).orElse(new Budget());
+        return budgetCache.current().orElse(new Budget());
     }
 
     @PostMapping("/budget")
+    @Transactional
     public Budget setBudget(@RequestParam BigDecimal amount) {
         Budget budget = budgetRepository.findById(1L).orElse(new Budget());
         budget.setTargetAmount(amount);
         Budget saved = budgetRepository.save(budget);
-        System.out.println("예산 설정됨: " + amount);
+        budgetPeriods.onBudgetChanged(saved);
+        outbox.publish(OutboxEvent.BUDGET_UPDATED, Map.of("id", saved.getId(), "targetAmount", saved.getTargetAmount()));
+        budgetCache.evict();
+        dataVersion.bump();
+        log.info("예산 설정됨: {}", amount);
         return saved;
     }
 
+    /**
+     * 사용자가 직접 입력한 절약 금액만큼 경험치 (입력마다 따로 쌓이므로 기간 제한 없이 요청 제한으로만 막는다)
+     */
     @PostMapping("/add-experience")
     public Character addSavingExperience(@RequestParam Integer amount) {
+        if (amount <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "절약 금액은 0보다 커야 합니다");
+        }
         return characterService.addSavingExperience(BigDecimal.valueOf(amount));
     }
 
+    @GetMapping("/experience/replay")
+    public ExperienceLedgerService.ReplayResult replayExperience() {
+        Character character = characterService.getOrCreateCharacter();
+        return experienceLedger.replay(character.getId(), ExperienceRule.CURRENT);
+    }
+
+    @GetMapping("/leaderboard")
+    public LeaderboardService.LeaderboardPage getLeaderboard(@RequestParam(defaultValue = "0") int offset,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        return leaderboard.page(offset, Math.min(limit, 100));
+    }
+
+    /**
+     * 내 순위와 앞뒤 radius 명 (id 를 생략하면 현재 캐릭터)
+     */
+    @GetMapping("/leaderboard/me")
+    public LeaderboardService.LeaderboardPage getMyRank(@RequestParam(required = false) Long id,
+                                                        @RequestParam(defaultValue = "5") int radius) {
+        Long characterId = id != null ? id : characterService.getOrCreateCharacter().getId();
+        return leaderboard.around(characterId, Math.min(radius, 50));
+    }
+
+    @GetMapping("/consistency")
+    public ProgressionConsistencyChecker.ConsistencyReport checkConsistency() {
+        return consistencyChecker.check(false);
+    }
+
+    @PostMapping("/consistency/repair")
+    public ProgressionConsistencyChecker.ConsistencyReport repairConsistency() {
+        return consistencyChecker.check(true);
+    }
+
     @DeleteMapping("/reset")
     public String resetCharacter() {
-        characterRepository.deleteAll();
+        characterService.resetCharacterData();
         return "캐릭터가 초기화되었습니다.";
     }
 
@@ -170,18 +252,15 @@ public class CharacterController {
     }
 
     @PostMapping("/check-weekly-savings")
-    public Character checkWeeklySavings() {
-        System.out.println("=== 주간 절약 체크 시작 ===");
-        Character result = characterService.checkWeeklySavings();
-        System.out.println("=== 주간 절약 체크 완료 ===");
-        return result;
+    public CompletableFuture<Character> checkWeeklySavings() {
+        if (!fanOut.isEnabled()) {
+            return CompletableFuture.completedFuture(characterService.checkWeeklySavings());
+        }
+        return characterService.checkWeeklySavingsAsync();
     }
     
     @PostMapping("/check-daily-savings")
     public Character checkDailySavings() {
-        System.out.println("=== 일일 절약 체크 시작 ===");
-        Character result = characterService.checkDailySavings();
-        System.out.println("=== 일일 절약 체크 완료 ===");
-        return result;
+        return characterService.checkDailySavings();
     }
 }
\ No newline at end of file
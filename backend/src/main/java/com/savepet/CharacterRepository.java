@@ -1,9 +1,37 @@
 package com.savepet;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 
 @Repository
 public interface CharacterRepository extends JpaRepository<Character, Long> {
     Character findTopByOrderByCreatedAtDesc();
+
+    /**
+     * periodStart 이후로 주간 정산한 적이 없을 때만 정산일을 기록 (1 이면 이번 요청이 정산 권한을 얻음).
+     * 조건부 UPDATE 라 동시 요청 중 하나만 성공한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Character c SET c.lastWeeklySettlement = :today WHERE c.id = :id " +
+           "AND (c.lastWeeklySettlement IS NULL OR c.lastWeeklySettlement < :periodStart)")
+    int claimWeeklySettlement(@Param("id") Long id, @Param("periodStart") LocalDate periodStart,
+                              @Param("today") LocalDate today);
+
+    /**
+     * 기간 목표 달성 보너스도 주간 정산과 같이 기간마다 한 번만
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Character c SET c.lastAchievementSettlement = :today WHERE c.id = :id " +
+           "AND (c.lastAchievementSettlement IS NULL OR c.lastAchievementSettlement < :periodStart)")
+    int claimAchievementSettlement(@Param("id") Long id, @Param("periodStart") LocalDate periodStart,
+                                   @Param("today") LocalDate today);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Character c SET c.lastDailySettlement = :today WHERE c.id = :id " +
+           "AND (c.lastDailySettlement IS NULL OR c.lastDailySettlement < :today)")
+    int claimDailySettlement(@Param("id") Long id, @Param("today") LocalDate today);
 }
@@ -1,61 +1,158 @@
 package com.savepet;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
+@Timed(value = "savepet.service", histogram = true)
 public class CharacterService {
 
+    private static final Logger log = LoggerFactory.getLogger(CharacterService.class);
+
     @Autowired
     private CharacterRepository characterRepository;
 
     @Autowired
     private TransactionRepository transactionRepository;
 
-    @Autowired
-    private BudgetRepository budgetRepository;
-    
     @Autowired
     private MissionService missionService;
 
+    @Autowired
+    private SavepetMetrics metrics;
+
+    @Autowired
+    private ExperienceLedgerService experienceLedger;
+
+    @Autowired
+    private ExperienceEventRepository experienceEventRepository;
+
+    @Autowired
+    private ExperienceSnapshotRepository experienceSnapshotRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private SpendForecaster forecaster;
+
+    @Autowired
+    private PrimaryRead primaryRead;
+
+    @Autowired
+    private LeaderboardService leaderboard;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private BudgetCache budgetCache;
+
+    @Autowired
+    private BudgetPeriodService budgetPeriods;
+
+    @Autowired
+    private FanOut fanOut;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     public Character getOrCreateCharacter() {
-        Character character = characterRepository.findTopByOrderByCreatedAtDesc();
-        if (character == null) {
-            character = new Character("머니펫");
-            character = characterRepository.save(character);
-            missionService.initializeMissions(); // 미션 초기화
-        }
-        return character;
+        // 복제본이 뒤처져 캐릭터가 없는 것으로 보이면 중복 생성되므로 쓰기 데이터소스에서 확인
+        return primaryRead.get(() -> {
+            Character character = characterRepository.findTopByOrderByCreatedAtDesc();
+            if (character == null) {
+                character = saveCharacter(new Character("머니펫"));
+            }
+            return character;
+        });
     }
 
+    @Transactional
     public Character checkWeeklySavings() {
         Character character = getOrCreateCharacter();
-        Budget currentBudget = getCurrentWeekBudget();
-        
-        if (currentBudget == null || currentBudget.getTargetAmount() == null) {
-            System.out.println("예산이 설정되지 않음");
+        if (!hasBudget()) {
+            log.debug("예산이 설정되지 않음");
             return character;
         }
+        BudgetPeriod period = budgetPeriods.current();
+        return settleWeekly(character, period, budgetPeriods.spent(period));
+    }
 
-        BigDecimal weeklyExpenses = calculateWeeklyExpenses();
-        BigDecimal savedAmount = currentBudget.getTargetAmount().subtract(weeklyExpenses);
+    /**
+     * checkWeeklySavings 의 비동기 버전
+     * 예산 유무와 현재 기간을 동시에 미리 읽어(캐시를 채워) 두고, 예산이 없으면 쓰기 트랜잭션 없이 끝낸다.
+     * 정산에 쓰는 기간과 지출은 조회와 정산 사이의 변경을 놓치지 않도록 정산 트랜잭션 안에서 다시 읽는다.
+     * 팬아웃 풀이 가득 차 정산 단계를 넘기지 못하면 동기 경로로 처리한다.
+     */
+    public CompletableFuture<Character> checkWeeklySavingsAsync() {
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Boolean> budgetSet = fanOut.part("budget", this::hasBudget, false, degraded);
+        CompletableFuture<BudgetPeriod> period = fanOut.part("period", budgetPeriods::current, null, degraded);
 
-        System.out.println("주간 절약 체크:");
-        System.out.println("목표 예산: " + currentBudget.getTargetAmount());
-        System.out.println("실제 지출: " + weeklyExpenses);
-        System.out.println("절약액: " + savedAmount);
+        return CompletableFuture.allOf(budgetSet, period).thenApplyAsync(ignored -> {
+            if (!degraded.isEmpty()) {
+                log.warn("주간 정산 사전 조회 일부 실패 {}, 정산 트랜잭션에서 다시 조회", degraded);
+            } else if (!budgetSet.join()) {
+                log.debug("예산이 설정되지 않음");
+                return getOrCreateCharacter();
+            }
+            return checkWeeklySavingsInTransaction();
+        }, fanOut.executor()).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (!(cause instanceof RejectedExecutionException)) {
+                throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+            }
+            log.warn("팬아웃 풀 포화, 주간 정산을 동기 경로로 처리");
+            return checkWeeklySavingsInTransaction();
+        });
+    }
+
+    private Character checkWeeklySavingsInTransaction() {
+        return new TransactionTemplate(transactionManager).execute(status -> checkWeeklySavings());
+    }
+
+    private Character settleWeekly(Character character, BudgetPeriod period, BigDecimal weeklyExpenses) {
+        BigDecimal savedAmount = period.getTargetAmount().subtract(weeklyExpenses);
+
+        log.debug("주간 절약 체크: 기간 #{} ({} ~ {}), 목표 예산={}, 실제 지출={}, 절약액={}",
+            period.getSeq(), period.getStartDate(), period.getEndDate(), period.getTargetAmount(), weeklyExpenses, savedAmount);
 
         if (savedAmount.compareTo(BigDecimal.ZERO) > 0) {
+            // 같은 기간에 이미 정산했으면 경험치를 다시 주지 않는다
+            LocalDate today = LocalDate.now();
+            if (characterRepository.claimWeeklySettlement(character.getId(), period.getStartDate(), today) == 0) {
+                log.debug("기간 #{} 은 이미 정산됨 (마지막 정산 {})", period.getSeq(), character.getLastWeeklySettlement());
+                return character;
+            }
+            character.setLastWeeklySettlement(today);
+
             // 경험치 추가 (절약액의 1/1000)
             int expToAdd = savedAmount.intValue() / 1000;
             if (expToAdd <= 0) expToAdd = 1; // 최소 1 경험치
             
-            System.out.println("경험치 추가: " + expToAdd);
-            character.addExperience(expToAdd);
+            log.debug("경험치 추가: {}", expToAdd);
+            experienceLedger.record(character, expToAdd, "weekly", savedAmount);
             
             // 미션 완료 체크
             checkAndCompleteMissions(character, savedAmount);
@@ -63,44 +160,57 @@ public class CharacterService {
             // 진화 가능성 체크
             checkEvolution(character);
             
-            return characterRepository.save(character);
+            return saveCharacter(character);
         } else {
-            System.out.println("절약하지 못함. 경험치 없음.");
+            log.debug("절약하지 못함. 경험치 없음.");
         }
 
         return character;
     }
     
+    @Transactional
     public Character checkDailySavings() {
         Character character = getOrCreateCharacter();
-        Budget currentBudget = getCurrentWeekBudget();
-        
-        if (currentBudget == null || currentBudget.getTargetAmount() == null) {
-            System.out.println("예산이 설정되지 않음");
+        if (!hasBudget()) {
+            log.debug("예산이 설정되지 않음");
             return character;
         }
+        BudgetPeriod period = budgetPeriods.current();
 
-        BigDecimal dailyTarget = currentBudget.getTargetAmount().divide(BigDecimal.valueOf(7));
+        BigDecimal dailyTarget = period.getDailyTarget();
         BigDecimal todayExpenses = calculateTodayExpenses();
         BigDecimal dailySaved = dailyTarget.subtract(todayExpenses);
 
-        System.out.println("일일 절약 체크:");
-        System.out.println("일일 목표: " + dailyTarget);
-        System.out.println("오늘 지출: " + todayExpenses);
-        System.out.println("절약액: " + dailySaved);
+        log.debug("일일 절약 체크: 일일 목표={}, 오늘 지출={}, 절약액={}", dailyTarget, todayExpenses, dailySaved);
 
         if (dailySaved.compareTo(BigDecimal.ZERO) > 0) {
+            // 오늘 이미 정산했으면 경험치를 다시 주지 않는다
+            LocalDate today = LocalDate.now();
+            if (characterRepository.claimDailySettlement(character.getId(), today) == 0) {
+                log.debug("오늘은 이미 일일 정산됨");
+                return character;
+            }
+            character.setLastDailySettlement(today);
+
             // 일일 경험치는 적게 (절약액의 1/5000, 최소 1)
             int expToAdd = Math.max(1, dailySaved.intValue() / 5000);
             
-            System.out.println("경험치 추가: " + expToAdd);
-            character.addExperience(expToAdd);
+            log.debug("경험치 추가: {}", expToAdd);
+            experienceLedger.record(character, expToAdd, "daily", dailySaved);
+            
+            // 이번 주 예상 지출이 (주간 환산) 예산 이내면 페이스 보너스
+            BigDecimal weeklyTarget = dailyTarget.multiply(BigDecimal.valueOf(7));
+            SpendForecaster.SpendForecast forecast = forecaster.forecast(weeklyTarget);
+            if (forecast.getOnPace()) {
+                experienceLedger.record(character, 1, "pace",
+                    weeklyTarget.subtract(forecast.getProjectedWeekSpend()));
+            }
             
             checkEvolution(character);
             
-            return characterRepository.save(character);
+            return saveCharacter(character);
         } else {
-            System.out.println("절약하지 못함. 경험치 없음.");
+            log.debug("절약하지 못함. 경험치 없음.");
         }
 
         return character;
@@ -113,81 +223,46 @@ public class CharacterService {
             
             for (Mission mission : missions) {
                 if (!mission.getCompleted()) {
-                    missionService.checkMissionCompletion(currentStage, mission.getMissionType(), savedAmount);
+                    missionService.checkMissionCompletion(character, currentStage, mission.getMissionType(), savedAmount);
                 }
             }
         } catch (Exception e) {
             // 미션 관련 오류가 발생해도 전체 프로세스는 계속 진행
-            System.err.println("미션 체크 중 오류 발생: " + e.getMessage());
+            log.warn("미션 체크 중 오류 발생: {}", e.getMessage());
         }
     }
     
     private void checkEvolution(Character character) {
         try {
-            int completedMissions = missionService.getCompletedMissionCount();
-            
-            System.out.println("진화 체크:");
-            System.out.println("현재 단계: " + character.getStage());
-            System.out.println("현재 경험치: " + character.getExperience());
-            System.out.println("완료된 미션 수: " + completedMissions);
+            log.debug("진화 체크: 현재 단계={}, 현재 경험치={}, 완료된 미션 수={}",
+                character.getStage(), character.getExperience(), character.getCompletedMissions());
             
-            if (character.canEvolve(completedMissions)) {
+            if (character.canEvolve()) {
                 String oldStage = character.getStage();
                 character.evolve();
-                System.out.println("진화 완료! " + oldStage + " -> " + character.getStage());
+                metrics.evolved(oldStage, character.getStage());
+                log.info("진화 완료! {} -> {}", oldStage, character.getStage());
             } else {
-                System.out.println("진화 조건 미충족");
+                log.debug("진화 조건 미충족");
             }
         } catch (Exception e) {
             // 진화 체크 오류가 발생해도 전체 프로세스는 계속 진행
-            System.err.println("진화 체크 중 오류 발생: " + e.getMessage());
+            log.warn("진화 체크 중 오류 발생: {}", e.getMessage());
         }
     }
 
-    private BigDecimal calculateWeeklyExpenses() {
-        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
-        LocalDate weekEnd = weekStart.plusDays(6);
-        
-        System.out.println("주간 계산 기간: " + weekStart + " ~ " + weekEnd);
-        
-        List<Transaction> transactions = transactionRepository.findByOrderByCreatedAtDesc();
-        
-        BigDecimal weeklyExpenses = transactions.stream()
-            .filter(t -> "expense".equals(t.getType()))
-            .filter(t -> {
-                LocalDate transactionDate = t.getCreatedAt().toLocalDate();
-                return !transactionDate.isBefore(weekStart) && !transactionDate.isAfter(weekEnd);
-            })
-            .map(Transaction::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        System.out.println("이번 주 지출 계산 결과: " + weeklyExpenses);
-        return weeklyExpenses;
-    }
-
     private BigDecimal calculateTodayExpenses() {
         LocalDate today = LocalDate.now();
         
-        List<Transaction> transactions = transactionRepository.findByOrderByCreatedAtDesc();
-        
-        BigDecimal todayExpenses = transactions.stream()
-            .filter(t -> "expense".equals(t.getType()))
-            .filter(t -> t.getCreatedAt().toLocalDate().equals(today))
-            .map(Transaction::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal todayExpenses = transactionRepository.sumExpenses(
+            today.atStartOfDay(), today.plusDays(1).atStartOfDay());
             
-        System.out.println("오늘 지출 계산 결과: " + todayExpenses);
+        log.debug("오늘 지출 계산 결과: {}", todayExpenses);
         return todayExpenses;
     }
 
-    private Budget getCurrentWeekBudget() {
-        Budget budget = budgetRepository.findById(1L).orElse(null);
-        if (budget != null) {
-            System.out.println("현재 예산: " + budget.getTargetAmount());
-        } else {
-            System.out.println("예산이 설정되지 않음");
-        }
-        return budget;
+    private boolean hasBudget() {
+        return budgetCache.current().isPresent();
     }
 
     public String getStageDescription(String stage) {
@@ -201,23 +276,38 @@ public class CharacterService {
         }
     }
 
+    private Character saveCharacter(Character character) {
+        Character saved = characterRepository.save(character);
+        AfterCommit.run(() -> leaderboard.update(saved));
+        return saved;
+    }
+
+    /**
+     * 캐릭터와 진행 상태(경험치 원장, 스냅샷, 미션 완료 여부)를 테이블마다 한 번의 쿼리로 초기화
+     */
+    @Transactional
     public String resetCharacterData() {
         long count = characterRepository.count();
-        characterRepository.deleteAll();
+        characterRepository.deleteAllInBatch();
+        experienceEventRepository.deleteAllInBatch();
+        experienceSnapshotRepository.deleteAllInBatch();
+        missionRepository.resetAllProgress();
+        missionService.invalidateMissionCache();
+        outbox.publish(OutboxEvent.CHARACTERS_RESET, Map.of("count", count));
+        AfterCommit.run(leaderboard::clear);
+        dataVersion.bump();
         return String.format("캐릭터 %d개가 초기화되었습니다.", count);
     }
 
     public SavingStatus getCurrentSavingStatus() {
         try {
-            Budget budget = getCurrentWeekBudget();
-            if (budget == null || budget.getTargetAmount() == null) {
-                budget = new Budget(); // 기본값 사용
-            }
+            // 예산이 없으면 기본 예산으로 열린 기간을 쓴다
+            BudgetPeriod period = budgetPeriods.current();
             
-            BigDecimal weeklyExpenses = calculateWeeklyExpenses();
-            BigDecimal savedAmount = budget.getTargetAmount().subtract(weeklyExpenses);
+            BigDecimal weeklyExpenses = budgetPeriods.spent(period);
+            BigDecimal savedAmount = period.getTargetAmount().subtract(weeklyExpenses);
             
-            BigDecimal dailyTarget = budget.getTargetAmount().divide(BigDecimal.valueOf(7));
+            BigDecimal dailyTarget = period.getDailyTarget();
             BigDecimal todayExpenses = calculateTodayExpenses();
             BigDecimal todaySaved = dailyTarget.subtract(todayExpenses);
 
@@ -228,7 +318,7 @@ public class CharacterService {
             try {
                 missionProgress = missionService.getMissionProgress(character.getStage());
             } catch (Exception e) {
-                System.err.println("미션 진행 상황 조회 중 오류 발생: " + e.getMessage());
+                log.warn("미션 진행 상황 조회 중 오류 발생: {}", e.getMessage());
                 // 기본 미션 진행 상황 생성
                 missionProgress = new MissionService.MissionProgress(
                     "미션 로딩 중...", 
@@ -240,17 +330,17 @@ public class CharacterService {
             }
 
             return new SavingStatus(
-                budget.getTargetAmount(), 
+                period.getTargetAmount(), 
                 weeklyExpenses, 
                 savedAmount, 
                 dailyTarget, 
                 todayExpenses, 
                 todaySaved, 
-                missionProgress
+                missionProgress,
+                forecaster.forecast(dailyTarget.multiply(BigDecimal.valueOf(7)))
             );
         } catch (Exception e) {
-            System.err.println("SavingStatus 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SavingStatus 조회 중 오류 발생", e);
             
             // 기본값으로 SavingStatus 반환
             Budget defaultBudget = new Budget();
@@ -269,40 +359,98 @@ public class CharacterService {
                 defaultBudget.getTargetAmount().divide(BigDecimal.valueOf(7)),
                 BigDecimal.ZERO,
                 defaultBudget.getTargetAmount().divide(BigDecimal.valueOf(7)),
-                defaultMission
+                defaultMission,
+                null
             );
         }
     }
 
+    /**
+     * getCurrentSavingStatus 의 비동기 버전
+     * 현재 기간, 오늘 지출, 캐릭터를 동시에 조회하고 이어서 기간 지출/예측과 미션 진행을 조회한다.
+     * 부분마다 마감 시간이 있으며, 실패한 부분은 기본값으로 채우고 degraded 에 이름을 남긴다.
+     */
+    public CompletableFuture<SavingStatus> getCurrentSavingStatusAsync() {
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+        MissionService.MissionProgress loadingMission = new MissionService.MissionProgress(
+            "미션 로딩 중...", "", BigDecimal.ZERO, BigDecimal.ZERO, false);
+
+        CompletableFuture<BudgetPeriod> period = fanOut.part("period", budgetPeriods::current, null, degraded);
+        CompletableFuture<BigDecimal> todayExpenses = fanOut.part("todayExpenses", this::calculateTodayExpenses, BigDecimal.ZERO, degraded);
+        CompletableFuture<Character> character = fanOut.part("character", this::getOrCreateCharacter, null, degraded);
+
+        CompletableFuture<BigDecimal> weeklyExpenses = period.thenCompose(p -> p == null
+            ? CompletableFuture.completedFuture(BigDecimal.ZERO)
+            : fanOut.part("weeklyExpenses", () -> budgetPeriods.spent(p), BigDecimal.ZERO, degraded));
+        CompletableFuture<SpendForecaster.SpendForecast> forecast = period.thenCompose(p -> p == null
+            ? CompletableFuture.<SpendForecaster.SpendForecast>completedFuture(null)
+            : fanOut.<SpendForecaster.SpendForecast>part("forecast", () -> forecaster.forecast(p.getDailyTarget().multiply(BigDecimal.valueOf(7))), null, degraded));
+        CompletableFuture<MissionService.MissionProgress> missionProgress = character.thenCompose(c -> c == null
+            ? CompletableFuture.completedFuture(loadingMission)
+            : fanOut.part("missionProgress", () -> missionService.getMissionProgress(c.getStage()), loadingMission, degraded));
+
+        return CompletableFuture.allOf(todayExpenses, weeklyExpenses, forecast, missionProgress).thenApply(ignored -> {
+            BudgetPeriod current = period.join();
+            BigDecimal target = current != null ? current.getTargetAmount() : new Budget().getTargetAmount();
+            BigDecimal dailyTarget = current != null
+                ? current.getDailyTarget()
+                : target.divide(BigDecimal.valueOf(7), 2, RoundingMode.HALF_UP);
+            BigDecimal weekly = weeklyExpenses.join();
+            BigDecimal today = todayExpenses.join();
+
+            SavingStatus status = new SavingStatus(
+                target,
+                weekly,
+                target.subtract(weekly),
+                dailyTarget,
+                today,
+                dailyTarget.subtract(today),
+                missionProgress.join(),
+                forecast.join()
+            );
+            status.setDegraded(new ArrayList<>(degraded));
+            return status;
+        });
+    }
+
+    @Transactional
     public Character addSavingExperience(BigDecimal amount) {
         Character character = getOrCreateCharacter();
         
         // 절약 금액에 따른 경험치 계산 (1000원당 1경험치)
         int expToAdd = amount.intValue() / 1000;
-        character.addExperience(expToAdd);
+        experienceLedger.record(character, expToAdd, "manual", amount);
         
         // 진화 가능성 체크
         checkEvolution(character);
         
-        return characterRepository.save(character);
+        return saveCharacter(character);
     }
 
+    @Transactional
     public Character checkSavingAchievement() {
         Character character = getOrCreateCharacter();
-        Budget currentBudget = getCurrentWeekBudget();
-        
-        if (currentBudget == null) {
+        if (!hasBudget()) {
             return character;
         }
 
-        // 주간 절약 목표 달성 체크
-        BigDecimal weeklyExpenses = calculateWeeklyExpenses();
-        BigDecimal savedAmount = currentBudget.getTargetAmount().subtract(weeklyExpenses);
+        // 현재 기간 절약 목표 달성 체크
+        BudgetPeriod period = budgetPeriods.current();
+        BigDecimal weeklyExpenses = budgetPeriods.spent(period);
+        BigDecimal savedAmount = period.getTargetAmount().subtract(weeklyExpenses);
 
         if (savedAmount.compareTo(BigDecimal.ZERO) > 0) {
+            // 같은 기간에 이미 보너스를 받았으면 다시 주지 않는다
+            LocalDate today = LocalDate.now();
+            if (characterRepository.claimAchievementSettlement(character.getId(), period.getStartDate(), today) == 0) {
+                log.debug("기간 #{} 목표 달성 보너스는 이미 지급됨", period.getSeq());
+                return character;
+            }
+            character.setLastAchievementSettlement(today);
+
             // 목표 달성시 보너스 경험치
             int bonusExp = savedAmount.intValue() / 5000; // 5000원당 1경험치
-            character.addExperience(bonusExp);
+            experienceLedger.record(character, bonusExp, "achievement", savedAmount);
             
             // 미션 완료 체크
             checkAndCompleteMissions(character, savedAmount);
@@ -310,7 +458,7 @@ public class CharacterService {
             // 진화 가능성 체크
             checkEvolution(character);
             
-            return characterRepository.save(character);
+            return saveCharacter(character);
         }
 
         return character;
@@ -324,10 +472,13 @@ public class CharacterService {
         private BigDecimal todayExpenses;
         private BigDecimal todaySaved;
         private MissionService.MissionProgress missionProgress;
+        private SpendForecaster.SpendForecast forecast;
+        // 비동기 조회에서 기본값으로 채운 부분
+        private List<String> degraded = new ArrayList<>();
 
         public SavingStatus(BigDecimal weeklyTarget, BigDecimal weeklyExpenses, BigDecimal weeklySaved,
                            BigDecimal dailyTarget, BigDecimal todayExpenses, BigDecimal todaySaved,
-                           MissionService.MissionProgress missionProgress) {
+                           MissionService.MissionProgress missionProgress, SpendForecaster.SpendForecast forecast) {
             this.weeklyTarget = weeklyTarget;
             this.weeklyExpenses = weeklyExpenses;
             this.weeklySaved = weeklySaved;
@@ -335,6 +486,7 @@ public class CharacterService {
             this.todayExpenses = todayExpenses;
             this.todaySaved = todaySaved;
             this.missionProgress = missionProgress;
+            this.forecast = forecast;
         }
 
         public BigDecimal getWeeklyTarget() { return weeklyTarget; }
@@ -344,5 +496,8 @@ public class CharacterService {
         public BigDecimal getTodayExpenses() { return todayExpenses; }
         public BigDecimal getTodaySaved() { return todaySaved; }
         public MissionService.MissionProgress getMissionProgress() { return missionProgress; }
+        public SpendForecaster.SpendForecast getForecast() { return forecast; }
+        public List<String> getDegraded() { return degraded; }
+        public void setDegraded(List<String> degraded) { this.degraded = degraded; }
     }
 }
\ No newline at end of file
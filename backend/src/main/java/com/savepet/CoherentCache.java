@@ -0,0 +1,64 @@
+package com.savepet;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * CacheInvalidationBus 가 관리하는 노드 로컬 캐시 (사용자 + 키)
+ * 무효화 메시지를 놓쳐도 ttl 이 지나면 다시 읽는다.
+ */
+public class CoherentCache<V> {
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+
+    CoherentCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public V get(String user, String key, Supplier<V> loader) {
+        String cacheKey = cacheKey(user, key);
+        Entry<V> entry = entries.get(cacheKey);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            return entry.value;
+        }
+        long seen = generation.get();
+        V value = loader.get();
+        // 로드 도중 무효화가 있었으면 읽은 값이 이미 낡았을 수 있으므로 캐시에 남기지 않는다
+        if (generation.get() == seen) {
+            entries.put(cacheKey, new Entry<>(value, now));
+        }
+        return value;
+    }
+
+    void invalidate(String user, String key) {
+        generation.incrementAndGet();
+        if (InvalidationMessage.ALL.equals(user)) {
+            entries.clear();
+        } else if (InvalidationMessage.ALL.equals(key)) {
+            String prefix = user + '\u0000';
+            entries.keySet().removeIf(k -> k.startsWith(prefix));
+        } else {
+            entries.remove(cacheKey(user, key));
+        }
+    }
+
+    private static String cacheKey(String user, String key) {
+        return user + '\u0000' + key;
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 날짜 + 유형별 합계 (GROUP BY 조회 결과)
+ */
+public class DailyTotal {
+    private LocalDate date;
+    private String type;
+    private BigDecimal total;
+    private Long count;
+
+    public DailyTotal(LocalDate date, String type, BigDecimal total, Long count) {
+        this.date = date;
+        this.type = type;
+        this.total = total;
+        this.count = count;
+    }
+
+    public LocalDate getDate() { return date; }
+    public String getType() { return type; }
+    public BigDecimal getTotal() { return total; }
+    public Long getCount() { return count; }
+}
@@ -0,0 +1,56 @@
+package com.savepet;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 데이터소스 분리
+ * savepet.datasource.read.url 에 복제본을 지정하면 읽기 전용 트랜잭션이 그쪽으로 간다.
+ * 비워 두면 같은 DB 에 별도 읽기 전용 커넥션 풀을 만든다 (개발/테스트의 H2 는 같은 인메모리 DB 를 공유하므로 항상 동기화됨).
+ * JdbcTemplate 스캔처럼 트랜잭션 밖의 조회와 쓰기 트랜잭션 안의 재집계는 복제 지연을 피하도록 쓰기 쪽을 쓴다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource write = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        write.setPoolName("savepet-write");
+        return write;
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+                                           @Value("${savepet.datasource.read.url:}") String readUrl,
+                                           @Value("${savepet.datasource.read.pool-size:4}") int readPoolSize) {
+        HikariDataSource read = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (!readUrl.isBlank()) {
+            read.setJdbcUrl(readUrl);
+        }
+        read.setPoolName("savepet-read");
+        read.setReadOnly(true);
+        read.setMaximumPoolSize(readPoolSize);
+        return read;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource write,
+                                 @Qualifier("readDataSource") DataSource read) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(ReadWriteRoutingDataSource.WRITE, write, ReadWriteRoutingDataSource.READ, read));
+        routing.setDefaultTargetDataSource(write);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,42 @@
+package com.savepet;
+
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기(거래/예산/캐릭터)가 일어날 때마다 증가하는 데이터 버전.
+ * 읽기 결과를 공유하거나 캐시할 때 키에 포함해 변경 전 결과가 재사용되지 않도록 한다.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜, 커밋 전 데이터가 새 버전으로 공유되지 않게 한다
+     */
+    public void bump() {
+        AfterCommit.run(() -> {
+            version.incrementAndGet();
+            listeners.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 일어난 쓰기 - 리스너에게 다시 알리지 않는다
+     */
+    public void bumpRemote() {
+        version.incrementAndGet();
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,52 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 거래 집계 (총 지출/수입, 카테고리별 지출, 주별 지출)
+ * 구간별로 따로 누적한 뒤 merge 로 합쳐도 순차 집계와 결과가 같다.
+ */
+public class ExpenseAccumulator {
+
+    private BigDecimal totalExpenses = BigDecimal.ZERO;
+    private BigDecimal totalIncome = BigDecimal.ZERO;
+    private long count;
+    private final Map<String, BigDecimal> categoryExpenses = new HashMap<>();
+    private final Map<LocalDate, BigDecimal> weeklyExpenses = new TreeMap<>();
+
+    public void add(String type, BigDecimal amount, String description, LocalDateTime createdAt) {
+        count++;
+        if ("expense".equals(type)) {
+            totalExpenses = totalExpenses.add(amount);
+            categoryExpenses.merge(TransactionCategories.categorize(description), amount, BigDecimal::add);
+            weeklyExpenses.merge(createdAt.toLocalDate().with(DayOfWeek.MONDAY), amount, BigDecimal::add);
+        } else if ("income".equals(type)) {
+            totalIncome = totalIncome.add(amount);
+        }
+    }
+
+    public void add(Transaction transaction) {
+        add(transaction.getType(), transaction.getAmount(), transaction.getDescription(), transaction.getCreatedAt());
+    }
+
+    public ExpenseAccumulator merge(ExpenseAccumulator other) {
+        totalExpenses = totalExpenses.add(other.totalExpenses);
+        totalIncome = totalIncome.add(other.totalIncome);
+        count += other.count;
+        other.categoryExpenses.forEach((k, v) -> categoryExpenses.merge(k, v, BigDecimal::add));
+        other.weeklyExpenses.forEach((k, v) -> weeklyExpenses.merge(k, v, BigDecimal::add));
+        return this;
+    }
+
+    public BigDecimal getTotalExpenses() { return totalExpenses; }
+    public BigDecimal getTotalIncome() { return totalIncome; }
+    public long getCount() { return count; }
+    public Map<String, BigDecimal> getCategoryExpenses() { return categoryExpenses; }
+    public Map<LocalDate, BigDecimal> getWeeklyExpenses() { return weeklyExpenses; }
+}
@@ -0,0 +1,11 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리 집계용 인터페이스 프로젝션 (설명과 금액 두 컬럼만)
+ */
+public interface ExpenseLine {
+    String getDescription();
+    BigDecimal getAmount();
+}
@@ -0,0 +1,38 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 경험치 변경 이력 (추가만 가능, 수정/삭제하지 않음)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_experience_event_character", columnList = "characterId, id"))
+public class ExperienceEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long characterId;
+    private Integer amount;
+    private String reason;
+    private BigDecimal basis;
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    public ExperienceEvent() {}
+    
+    public ExperienceEvent(Long characterId, Integer amount, String reason, BigDecimal basis) {
+        this.characterId = characterId;
+        this.amount = amount;
+        this.reason = reason;
+        this.basis = basis;
+    }
+    
+    public Long getId() { return id; }
+    public Long getCharacterId() { return characterId; }
+    public Integer getAmount() { return amount; }
+    public String getReason() { return reason; }
+    public BigDecimal getBasis() { return basis; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,26 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+
+@Repository
+public interface ExperienceEventRepository extends JpaRepository<ExperienceEvent, Long> {
+    long countByCharacterIdAndIdGreaterThan(Long characterId, Long afterId);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM ExperienceEvent e WHERE e.characterId = :characterId AND e.id > :afterId")
+    long sumAmountAfter(@Param("characterId") Long characterId, @Param("afterId") Long afterId);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM ExperienceEvent e WHERE e.characterId = :characterId " +
+           "AND e.id > :afterId AND e.id <= :throughId")
+    long sumAmountBetween(@Param("characterId") Long characterId, @Param("afterId") Long afterId,
+                          @Param("throughId") Long throughId);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ExperienceEvent e WHERE e.characterId = :characterId")
+    long findLastEventId(@Param("characterId") Long characterId);
+
+    @Query("SELECT MAX(e.createdAt) FROM ExperienceEvent e WHERE e.characterId = :characterId AND e.reason = :reason")
+    LocalDateTime findLastCreatedAt(@Param("characterId") Long characterId, @Param("reason") String reason);
+}
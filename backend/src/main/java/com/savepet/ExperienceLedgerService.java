@@ -0,0 +1,128 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 경험치 원장 서비스
+ * 모든 경험치 변경은 ExperienceEvent 로 추가 기록되고, 일정 개수마다 스냅샷을 남긴다.
+ * Character.experience 는 "최신 스냅샷 + 이후 이벤트 합계"를 그대로 반영한 캐시 컬럼이다.
+ */
+@Service
+public class ExperienceLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExperienceLedgerService.class);
+
+    private static final int REPLAY_FETCH_SIZE = 1000;
+
+    @Autowired
+    private ExperienceEventRepository eventRepository;
+
+    @Autowired
+    private ExperienceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SavepetMetrics metrics;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Value("${savepet.ledger.snapshot-interval:50}")
+    private int snapshotInterval;
+
+    /**
+     * 경험치를 지급하고 원장에 기록한다
+     */
+    @Transactional
+    public void record(Character character, int amount, String reason, BigDecimal basis) {
+        if (amount == 0) {
+            return;
+        }
+        character.addExperience(amount);
+        eventRepository.save(new ExperienceEvent(character.getId(), amount, reason, basis));
+        outbox.publish(OutboxEvent.EXPERIENCE_RECORDED,
+            Map.of("characterId", character.getId(), "amount", amount, "reason", reason));
+        metrics.experienceGranted(reason, amount);
+        dataVersion.bump();
+
+        ExperienceSnapshot snapshot = snapshotRepository.findTopByCharacterIdOrderByLastEventIdDesc(character.getId());
+        long afterId = snapshot != null ? snapshot.getLastEventId() : 0L;
+        if (eventRepository.countByCharacterIdAndIdGreaterThan(character.getId(), afterId) >= snapshotInterval) {
+            takeSnapshot(character.getId());
+        }
+    }
+
+    /**
+     * 최신 스냅샷 + 짧은 이벤트 꼬리로 현재 경험치를 계산
+     */
+    @Transactional(readOnly = true)
+    public int currentExperience(Long characterId) {
+        ExperienceSnapshot snapshot = snapshotRepository.findTopByCharacterIdOrderByLastEventIdDesc(characterId);
+        int base = snapshot != null ? snapshot.getExperience() : 0;
+        long afterId = snapshot != null ? snapshot.getLastEventId() : 0L;
+        return base + (int) eventRepository.sumAmountAfter(characterId, afterId);
+    }
+
+    /**
+     * 합계를 lastEventId 까지로 묶어야, 두 조회 사이에 기록된 이벤트가 스냅샷과 이후 꼬리에 두 번 더해지지 않는다
+     */
+    @Transactional
+    public ExperienceSnapshot takeSnapshot(Long characterId) {
+        long lastEventId = eventRepository.findLastEventId(characterId);
+        ExperienceSnapshot previous = snapshotRepository.findTopByCharacterIdOrderByLastEventIdDesc(characterId);
+        int base = previous != null ? previous.getExperience() : 0;
+        long afterId = previous != null ? previous.getLastEventId() : 0L;
+        int experience = base + (int) eventRepository.sumAmountBetween(characterId, afterId, lastEventId);
+        return snapshotRepository.save(new ExperienceSnapshot(characterId, experience, lastEventId));
+    }
+
+    /**
+     * 캐릭터의 전체 이력을 주어진 규칙으로 다시 계산한다.
+     * 엔티티를 만들지 않고 JDBC 커서로 순차 스캔하므로 이력 길이에 비례한 메모리를 쓰지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ReplayResult replay(Long characterId, ExperienceRule rule) {
+        long[] counters = new long[2]; // [0] 이벤트 수, [1] 경험치 합계
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(REPLAY_FETCH_SIZE);
+        cursor.query(
+            "SELECT reason, basis, amount FROM experience_event WHERE character_id = ? ORDER BY id",
+            (RowCallbackHandler) rs -> {
+                counters[0]++;
+                counters[1] += rule.experienceFor(rs.getString(1), rs.getBigDecimal(2), rs.getInt(3));
+            },
+            characterId);
+        log.info("경험치 재계산 완료: character={}, events={}, experience={}", characterId, counters[0], counters[1]);
+        return new ReplayResult(characterId, counters[0], (int) counters[1]);
+    }
+
+    public static class ReplayResult {
+        private Long characterId;
+        private Long events;
+        private Integer experience;
+
+        public ReplayResult(Long characterId, Long events, Integer experience) {
+            this.characterId = characterId;
+            this.events = events;
+            this.experience = experience;
+        }
+
+        public Long getCharacterId() { return characterId; }
+        public Long getEvents() { return events; }
+        public Integer getExperience() { return experience; }
+    }
+}
@@ -0,0 +1,29 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+
+/**
+ * 경험치 지급 규칙. 원장의 (사유, 기준 금액)으로부터 경험치를 다시 계산할 때 사용
+ */
+@FunctionalInterface
+public interface ExperienceRule {
+
+    int experienceFor(String reason, BigDecimal basis, int recordedAmount);
+
+    /**
+     * CharacterService 에 구현된 현재 규칙
+     */
+    ExperienceRule CURRENT = (reason, basis, recordedAmount) -> {
+        if (basis == null) {
+            return recordedAmount;
+        }
+        switch (reason) {
+            case "weekly": return Math.max(1, basis.intValue() / 1000);
+            case "daily": return Math.max(1, basis.intValue() / 5000);
+            case "manual": return basis.intValue() / 1000;
+            case "achievement": return basis.intValue() / 5000;
+            case "pace": return basis.signum() >= 0 ? 1 : 0;
+            default: return recordedAmount;
+        }
+    };
+}
@@ -0,0 +1,34 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * lastEventId 까지의 이벤트를 모두 반영한 경험치 스냅샷
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_experience_snapshot_character", columnList = "characterId, lastEventId"))
+public class ExperienceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long characterId;
+    private Integer experience;
+    private Long lastEventId;
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    public ExperienceSnapshot() {}
+    
+    public ExperienceSnapshot(Long characterId, Integer experience, Long lastEventId) {
+        this.characterId = characterId;
+        this.experience = experience;
+        this.lastEventId = lastEventId;
+    }
+    
+    public Long getId() { return id; }
+    public Long getCharacterId() { return characterId; }
+    public Integer getExperience() { return experience; }
+    public Long getLastEventId() { return lastEventId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,9 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExperienceSnapshotRepository extends JpaRepository<ExperienceSnapshot, Long> {
+    ExperienceSnapshot findTopByCharacterIdOrderByLastEventIdDesc(Long characterId);
+}
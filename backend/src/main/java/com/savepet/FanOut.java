@@ -0,0 +1,81 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 복합 조회의 독립적인 부분들을 유한 스레드 풀에서 동시에 실행
+ * 부분마다 마감 시간이 있고, 실패/시간 초과/풀 포화 시에는 기본값으로 채운 뒤 degraded 에 이름을 남긴다.
+ * 컨트롤러가 CompletableFuture 를 그대로 돌려주면 기다리는 동안 톰캣 스레드는 반납된다.
+ */
+@Component
+public class FanOut {
+
+    private static final Logger log = LoggerFactory.getLogger(FanOut.class);
+
+    private final ThreadPoolExecutor executor;
+
+    @Value("${savepet.fan-out.enabled:true}")
+    private boolean enabled;
+
+    @Value("${savepet.fan-out.part-timeout-ms:1000}")
+    private long partTimeoutMs;
+
+    public FanOut(@Value("${savepet.fan-out.threads:8}") int threads,
+                  @Value("${savepet.fan-out.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "fan-out-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * 한 부분을 비동기로 실행. 이 future 는 예외로 끝나지 않고 항상 값 또는 fallback 으로 완료된다.
+     */
+    public <T> CompletableFuture<T> part(String name, Supplier<T> task, T fallback, Set<String> degraded) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("팬아웃 풀 포화, {} 기본값 사용", name);
+            degraded.add(name);
+            return CompletableFuture.completedFuture(fallback);
+        }
+        return future
+            .orTimeout(partTimeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+                log.warn("{} 조회 실패, 기본값 사용: {}", name, e.toString());
+                degraded.add(name);
+                return fallback;
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,226 @@
+package com.savepet;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거래 쓰기 지연(write-behind) 큐
+ * 요청 스레드는 유한 큐에 넣고 접수 번호만 돌려받는다. 전용 writer 스레드가 batch-size 만큼 모이거나
+ * max-delay 가 지나면 한 트랜잭션으로 묶어 저장하므로(그룹 커밋) 커밋 비용이 건수가 아닌 배치 수에 비례한다.
+ * 큐가 가득 차면 offer-timeout 만큼 기다린 뒤 거절해 호출자에게 역압(backpressure)을 전달한다.
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 기동 시 writer 스레드가 시작되도록
+public class IngestQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestQueue.class);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Value("${savepet.ingest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${savepet.ingest.capacity:10000}")
+    private int capacity;
+
+    @Value("${savepet.ingest.batch-size:200}")
+    private int batchSize;
+
+    @Value("${savepet.ingest.max-delay-ms:50}")
+    private long maxDelayMillis;
+
+    @Value("${savepet.ingest.offer-timeout-ms:100}")
+    private long offerTimeoutMillis;
+
+    private final AtomicLong tickets = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private BlockingQueue<Transaction> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "savepet-ingest-writer");
+        writer.start();
+        log.info("쓰기 지연 큐 시작: capacity={}, batchSize={}, maxDelay={}ms", capacity, batchSize, maxDelayMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 거래들을 큐에 넣는다. 일부라도 들어가지 못하면 접수된 건수까지만 담긴 영수증을 돌려준다.
+     * 큐 모드가 꺼져 있으면 한 번의 커밋으로 바로 저장한다.
+     * createdAt 이 비어 있으면 접수 시각으로 채운다 (한 건 때문에 그룹 커밋 전체가 실패하지 않도록).
+     */
+    public IngestReceipt submit(List<Transaction> transactions) throws InterruptedException {
+        LocalDateTime receivedAt = LocalDateTime.now();
+        for (Transaction transaction : transactions) {
+            if (transaction.getCreatedAt() == null) {
+                transaction.setCreatedAt(receivedAt);
+            }
+        }
+        if (!enabled) {
+            transactionService.createAll(transactions);
+            return new IngestReceipt(tickets.addAndGet(transactions.size()), transactions.size(), transactions.size(), 0);
+        }
+        if (!running) {
+            return new IngestReceipt(tickets.get(), transactions.size(), 0, queue.size());
+        }
+        int accepted = 0;
+        for (Transaction transaction : transactions) {
+            if (!queue.offer(transaction, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.addAndGet(transactions.size() - accepted);
+                break;
+            }
+            accepted++;
+        }
+        return new IngestReceipt(tickets.addAndGet(accepted), transactions.size(), accepted, queue.size());
+    }
+
+    private void writeLoop() {
+        List<Transaction> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Transaction first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    Transaction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중에는 남은 항목을 마저 비운다
+                queue.drainTo(batch);
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Transaction> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionService.createAll(new ArrayList<>(batch));
+            flushedBatches.incrementAndGet();
+            flushedRows.addAndGet(batch.size());
+        } catch (Exception e) {
+            // 한 건의 잘못된 데이터가 배치 전체를 버리지 않도록 건별로 다시 저장
+            log.warn("그룹 커밋 실패, 건별 저장으로 재시도: {}건 ({})", batch.size(), e.getMessage());
+            for (Transaction transaction : batch) {
+                try {
+                    transaction.setId(null);
+                    transactionService.create(transaction);
+                    flushedRows.incrementAndGet();
+                } catch (Exception rowError) {
+                    failedRows.incrementAndGet();
+                    log.error("거래 저장 실패: {} {}", transaction.getDescription(), transaction.getAmount(), rowError);
+                }
+            }
+        }
+    }
+
+    /**
+     * 새 접수를 막고 큐에 남은 거래를 모두 저장한 뒤 writer 를 멈춘다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join();
+        log.info("쓰기 지연 큐 종료: 배치 {}개, {}건 저장, {}건 실패", flushedBatches.get(), flushedRows.get(), failedRows.get());
+    }
+
+    public IngestStats getStats() {
+        return new IngestStats(enabled, queue != null ? queue.size() : 0, capacity,
+            flushedBatches.get(), flushedRows.get(), failedRows.get(), rejected.get());
+    }
+
+    public static class IngestReceipt {
+        private Long ticket;
+        private Integer submitted;
+        private Integer accepted;
+        private Integer queued;
+
+        public IngestReceipt(Long ticket, Integer submitted, Integer accepted, Integer queued) {
+            this.ticket = ticket;
+            this.submitted = submitted;
+            this.accepted = accepted;
+            this.queued = queued;
+        }
+
+        public Long getTicket() { return ticket; }
+        public Integer getSubmitted() { return submitted; }
+        public Integer getAccepted() { return accepted; }
+        public Integer getQueued() { return queued; }
+        public boolean isComplete() { return accepted.equals(submitted); }
+    }
+
+    public static class IngestStats {
+        private Boolean enabled;
+        private Integer queued;
+        private Integer capacity;
+        private Long flushedBatches;
+        private Long flushedRows;
+        private Long failedRows;
+        private Long rejected;
+
+        public IngestStats(Boolean enabled, Integer queued, Integer capacity, Long flushedBatches,
+                           Long flushedRows, Long failedRows, Long rejected) {
+            this.enabled = enabled;
+            this.queued = queued;
+            this.capacity = capacity;
+            this.flushedBatches = flushedBatches;
+            this.flushedRows = flushedRows;
+            this.failedRows = failedRows;
+            this.rejected = rejected;
+        }
+
+        public Boolean getEnabled() { return enabled; }
+        public Integer getQueued() { return queued; }
+        public Integer getCapacity() { return capacity; }
+        public Long getFlushedBatches() { return flushedBatches; }
+        public Long getFlushedRows() { return flushedRows; }
+        public Long getFailedRows() { return failedRows; }
+        public Long getRejected() { return rejected; }
+    }
+}
@@ -0,0 +1,46 @@
+package com.savepet;
+
+/**
+ * 캐시 무효화 메시지 - 어느 노드(origin)가 어떤 엔티티의 어떤 키(사용자 단위)를 바꿨는지
+ * key 또는 user 가 "*" 이면 해당 범위 전체를 무효화한다.
+ */
+public class InvalidationMessage {
+    public static final String ALL = "*";
+
+    private final String origin;
+    private final String entity;
+    private final String user;
+    private final String key;
+
+    public InvalidationMessage(String origin, String entity, String user, String key) {
+        this.origin = origin;
+        this.entity = entity;
+        this.user = user;
+        this.key = key;
+    }
+
+    public String getOrigin() { return origin; }
+    public String getEntity() { return entity; }
+    public String getUser() { return user; }
+    public String getKey() { return key; }
+
+    /**
+     * 한 줄 텍스트 (탭 구분) - 소켓 전송용
+     */
+    public String encode() {
+        return String.join("\t", origin, entity, user, key);
+    }
+
+    public static InvalidationMessage decode(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 무효화 메시지: " + line);
+        }
+        return new InvalidationMessage(parts[0], parts[1], parts[2], parts[3]);
+    }
+
+    @Override
+    public String toString() {
+        return entity + "/" + user + "/" + key + " from " + origin;
+    }
+}
@@ -0,0 +1,16 @@
+package com.savepet;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지 전송 수단 (loopback: 같은 JVM, socket: 같은 머신의 여러 프로세스)
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    void send(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+
+    @Override
+    void close();
+}
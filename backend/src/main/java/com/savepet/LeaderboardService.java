@@ -0,0 +1,138 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진화 단계/경험치 리더보드
+ * 기동 시 캐릭터 테이블에서 RankedIndex 를 만들고, 캐릭터 저장이 커밋될 때마다 해당 항목만 교체한다.
+ * 순위 조회와 순위 구간 조회는 DB 를 거치지 않는다.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    // 진화 순서 (목록에 없는 단계는 가장 아래)
+    private static final List<String> STAGES = List.of("EGG", "BABY", "ADULT", "RICH", "BILLIONAIRE");
+
+    // 진화 단계 내림차순, 같으면 경험치 내림차순, 그래도 같으면 먼저 만든(id 가 작은) 캐릭터가 위
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt((Entry e) -> e.stageOrder).reversed()
+        .thenComparing(Comparator.comparingInt((Entry e) -> e.experience).reversed())
+        .thenComparingLong(e -> e.characterId);
+
+    private final RankedIndex<Entry> index = new RankedIndex<>(ORDER);
+    private final Map<Long, Entry> current = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        clear();
+        characterRepository.findAll().forEach(this::update);
+        log.info("리더보드 로드: {}명", index.size());
+    }
+
+    public synchronized void update(Character character) {
+        Entry next = new Entry(character.getId(), character.getName(), character.getStage(),
+            character.getExperience() != null ? character.getExperience() : 0);
+        Entry previous = current.put(next.characterId, next);
+        if (previous != null) {
+            index.remove(previous);
+        }
+        index.insert(next);
+    }
+
+    public synchronized void clear() {
+        index.clear();
+        current.clear();
+    }
+
+    public LeaderboardPage page(int offset, int limit) {
+        List<Entry> entries = index.range(offset + 1, limit);
+        List<RankedEntry> ranked = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            ranked.add(new RankedEntry(offset + i + 1, entries.get(i)));
+        }
+        return new LeaderboardPage(index.size(), ranked);
+    }
+
+    /**
+     * 캐릭터의 순위와 앞뒤 radius 명
+     */
+    public LeaderboardPage around(Long characterId, int radius) {
+        Entry entry = current.get(characterId);
+        if (entry == null) {
+            return new LeaderboardPage(index.size(), new ArrayList<>());
+        }
+        int rank = index.rankOf(entry);
+        int from = Math.max(1, rank - radius);
+        return page(from - 1, rank - from + radius + 1);
+    }
+
+    public int rankOf(Long characterId) {
+        Entry entry = current.get(characterId);
+        return entry != null ? index.rankOf(entry) : 0;
+    }
+
+    private static class Entry {
+        final Long characterId;
+        final String name;
+        final String stage;
+        final int stageOrder;
+        final int experience;
+
+        Entry(Long characterId, String name, String stage, int experience) {
+            this.characterId = characterId;
+            this.name = name;
+            this.stage = stage;
+            this.stageOrder = STAGES.indexOf(stage);
+            this.experience = experience;
+        }
+    }
+
+    public static class RankedEntry {
+        private Integer rank;
+        private Long characterId;
+        private String name;
+        private String stage;
+        private Integer experience;
+
+        RankedEntry(int rank, Entry entry) {
+            this.rank = rank;
+            this.characterId = entry.characterId;
+            this.name = entry.name;
+            this.stage = entry.stage;
+            this.experience = entry.experience;
+        }
+
+        public Integer getRank() { return rank; }
+        public Long getCharacterId() { return characterId; }
+        public String getName() { return name; }
+        public String getStage() { return stage; }
+        public Integer getExperience() { return experience; }
+    }
+
+    public static class LeaderboardPage {
+        private Integer total;
+        private List<RankedEntry> entries;
+
+        public LeaderboardPage(Integer total, List<RankedEntry> entries) {
+            this.total = total;
+            this.entries = entries;
+        }
+
+        public Integer getTotal() { return total; }
+        public List<RankedEntry> getEntries() { return entries; }
+    }
+}
@@ -0,0 +1,92 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 머신의 다른 프로세스에 루프백 UDP 로 보내는 전송
+ * 각 노드는 자기 포트에서 받고, 설정된 peer 포트들로 보낸다. 유실되더라도 캐시 TTL 이 상한이 된다.
+ */
+public class LocalSocketTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSocketTransport.class);
+    private static final int MAX_MESSAGE_BYTES = 2048;
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread receiver;
+    private volatile boolean running = true;
+
+    public LocalSocketTransport(int port, List<Integer> peerPorts) throws SocketException {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        this.socket = new DatagramSocket(new InetSocketAddress(loopback, port));
+        for (Integer peerPort : peerPorts) {
+            peers.add(new InetSocketAddress(loopback, peerPort));
+        }
+        this.receiver = new Thread(this::receiveLoop, "savepet-cache-bus-" + port);
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+        log.info("캐시 무효화 소켓 전송: port={}, peers={}", port, peerPorts);
+    }
+
+    @Override
+    public void send(InvalidationMessage message) {
+        byte[] bytes = message.encode().getBytes(StandardCharsets.UTF_8);
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(bytes, bytes.length, peer));
+            } catch (IOException e) {
+                log.warn("무효화 메시지 전송 실패: {} -> {} ({})", message, peer, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[MAX_MESSAGE_BYTES];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                InvalidationMessage message = InvalidationMessage.decode(
+                    new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+                for (Consumer<InvalidationMessage> listener : listeners) {
+                    listener.accept(message);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("무효화 메시지 수신 오류: {}", e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.warn("무효화 메시지 처리 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        socket.close();
+        try {
+            receiver.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
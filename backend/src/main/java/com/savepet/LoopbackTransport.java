@@ -0,0 +1,34 @@
+package com.savepet;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 모든 구독자에게 바로 전달하는 전송 (단일 인스턴스, 한 JVM 에 여러 컨텍스트를 띄우는 테스트)
+ */
+public class LoopbackTransport implements InvalidationTransport {
+
+    private static final List<Consumer<InvalidationMessage>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<InvalidationMessage>> own = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(InvalidationMessage message) {
+        for (Consumer<InvalidationMessage> subscriber : SUBSCRIBERS) {
+            subscriber.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        own.add(listener);
+        SUBSCRIBERS.add(listener);
+    }
+
+    @Override
+    public void close() {
+        SUBSCRIBERS.removeAll(own);
+        own.clear();
+    }
+}
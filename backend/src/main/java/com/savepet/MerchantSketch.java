@@ -0,0 +1,34 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 상위 빈도 스케치 저장 (scope: all, uncategorized, week:yyyy-MM-dd)
+ */
+@Entity
+public class MerchantSketch {
+    @Id
+    private String scope;
+
+    @Lob
+    private String entries;
+
+    // 이 저장본이 반영한 마지막 아웃박스 이벤트 id (기동 시 다음 이벤트부터 이어 받는다)
+    private Long coveredEventId;
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public MerchantSketch() {}
+
+    public MerchantSketch(String scope, String entries, Long coveredEventId) {
+        this.scope = scope;
+        this.entries = entries;
+        this.coveredEventId = coveredEventId;
+    }
+
+    public String getScope() { return scope; }
+    public String getEntries() { return entries; }
+    public Long getCoveredEventId() { return coveredEventId; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,14 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MerchantSketchRepository extends JpaRepository<MerchantSketch, String> {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MerchantSketch s SET s.coveredEventId = :eventId")
+    int markCovered(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,190 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자주 쓰는 지출처(거래 설명) 통계
+ * 전체 기간 / 주별 / 미분류("기타") 범위마다 Space-Saving 스케치를 두고 지출 거래가 추가될 때마다 갱신한다.
+ * 메모리는 범위당 SKETCH_CAPACITY 개 카운터로 고정되며, 주기적으로 MerchantSketch 테이블에 저장한다.
+ * 삭제된 거래는 스케치에서 빼지 않는다 (근사 통계).
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 스케줄 작업이 등록되도록
+public class MerchantStatsService extends SnapshotProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(MerchantStatsService.class);
+
+    private static final int SKETCH_CAPACITY = 200;
+    private static final int WEEKS_KEPT = 8;
+    private static final String ALL = "all";
+    private static final String UNCATEGORIZED = "uncategorized";
+    private static final String WEEK_PREFIX = "week:";
+
+    private final Map<String, SpaceSaving> sketches = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @Autowired
+    private MerchantSketchRepository sketchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String getProjectionName() {
+        return "merchant-stats";
+    }
+
+    @Override
+    protected long loadSaved() {
+        List<MerchantSketch> saved = sketchRepository.findAll();
+        if (saved.isEmpty()) {
+            return -1L;
+        }
+        long covered = Long.MAX_VALUE;
+        for (MerchantSketch sketch : saved) {
+            if (sketch.getCoveredEventId() == null) {
+                // 반영 위치 없이 저장된 예전 저장본은 어디서 이어 받을지 모르므로 다시 만든다
+                sketches.clear();
+                sketchRepository.deleteAllInBatch();
+                return -1L;
+            }
+            covered = Math.min(covered, sketch.getCoveredEventId());
+            sketches.put(sketch.getScope(), SpaceSaving.deserialize(SKETCH_CAPACITY, sketch.getEntries()));
+        }
+        log.info("지출처 스케치 {}개 로드 (이벤트 #{} 까지 반영)", saved.size(), covered);
+        return covered;
+    }
+
+    /**
+     * 저장된 스케치가 없으면 지출 거래를 한 번 훑어 만든다
+     */
+    @Override
+    protected void scanSource() {
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(1000);
+        RowCallbackHandler handler = rs -> {
+            Timestamp createdAt = rs.getTimestamp(2);
+            record(rs.getString(1), createdAt != null ? createdAt.toLocalDateTime() : null);
+        };
+        cursor.query("SELECT description, created_at FROM transaction_archive WHERE type = 'expense' ORDER BY id", handler);
+        cursor.query("SELECT description, created_at FROM transaction WHERE type = 'expense' ORDER BY id", handler);
+        dirty.set(true);
+    }
+
+    @Override
+    public void onTransactionCreated(Transaction transaction) {
+        if ("expense".equals(transaction.getType())) {
+            record(transaction.getDescription(), transaction.getCreatedAt());
+            dirty.set(true);
+        }
+    }
+
+    private void record(String description, LocalDateTime createdAt) {
+        if (description == null || description.isBlank()) {
+            return;
+        }
+        String key = normalize(description);
+        sketch(ALL).offer(key);
+        if (createdAt != null) {
+            sketch(weekScope(WeeklyReportService.weekStartOf(createdAt.toLocalDate()))).offer(key);
+        }
+        if ("기타".equals(TransactionCategories.categorize(description))) {
+            sketch(UNCATEGORIZED).offer(key);
+        }
+    }
+
+    public List<SpaceSaving.Entry> topAllTime(int k) {
+        return sketch(ALL).top(k);
+    }
+
+    public List<SpaceSaving.Entry> topForWeek(LocalDate weekStart, int k) {
+        SpaceSaving sketch = sketches.get(weekScope(weekStart));
+        return sketch != null ? sketch.top(k) : new ArrayList<>();
+    }
+
+    /**
+     * categorizeTransaction 에서 "기타"로 분류된 설명 중 자주 나오는 것 (새 카테고리 키워드 후보)
+     */
+    public List<SpaceSaving.Entry> keywordCandidates(int k) {
+        return sketch(UNCATEGORIZED).top(k);
+    }
+
+    @Override
+    protected boolean hasState() {
+        return !sketches.isEmpty();
+    }
+
+    @Override
+    protected void clearState() {
+        sketches.clear();
+        dirty.set(false);
+    }
+
+    @Override
+    protected boolean isDirty() {
+        return dirty.get();
+    }
+
+    @Override
+    protected void deleteSavedRows() {
+        sketchRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 변경된 스케치 저장 + 오래된 주 스케치 정리
+     */
+    @Scheduled(fixedDelayString = "${savepet.merchant-stats.persist-interval-ms:60000}")
+    @PreDestroy // 다음 기동은 저장본과 저장본 위치에서 이어 가므로 종료 전에 마지막 변경까지 저장
+    public void persist() {
+        String oldest = weekScope(WeeklyReportService.weekStartOf(LocalDate.now()).minusWeeks(WEEKS_KEPT));
+        List<String> expired = new ArrayList<>();
+        for (String scope : sketches.keySet()) {
+            if (scope.startsWith(WEEK_PREFIX) && scope.compareTo(oldest) < 0) {
+                expired.add(scope);
+            }
+        }
+        expired.forEach(sketches::remove);
+        if (!expired.isEmpty()) {
+            sketchRepository.deleteAllById(expired);
+        }
+        persistSnapshot();
+    }
+
+    @Override
+    protected void saveState(long covered) {
+        if (dirty.getAndSet(false)) {
+            List<MerchantSketch> rows = new ArrayList<>();
+            sketches.forEach((scope, sketch) -> rows.add(new MerchantSketch(scope, sketch.serialize(), covered)));
+            sketchRepository.saveAll(rows);
+        }
+        sketchRepository.markCovered(covered);
+    }
+
+    private SpaceSaving sketch(String scope) {
+        return sketches.computeIfAbsent(scope, k -> new SpaceSaving(SKETCH_CAPACITY));
+    }
+
+    private static String weekScope(LocalDate weekStart) {
+        return WEEK_PREFIX + weekStart;
+    }
+
+    private static String normalize(String description) {
+        return description.toLowerCase().replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,68 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 선언형 미션 정의
+ * 카테고리(설명 키워드), 집계 기간, 예산 대비 비율, 완료 목표액, 단계를 데이터로 기술하고
+ * MissionEngine 이 이를 MissionEvaluator 로 컴파일한다. 새 미션은 CATALOG 에 한 줄을 추가하면 된다.
+ */
+public final class MissionDefinition {
+
+    /**
+     * 기본 미션 목록 (단계별 한 개). 최근 windowDays 일 동안 카테고리 지출이 예산 x budgetRatio 보다 적은 만큼이 절약액
+     */
+    public static final List<MissionDefinition> CATALOG = List.of(
+        new MissionDefinition("EGG", "COFFEE", "커피값 절약하기", 28, "0.15", 50000,
+            "커피", "카페", "스타벅스", "아메리카노", "라떼", "coffee"),
+        new MissionDefinition("BABY", "SNACK", "간식비 절약하기", 28, "0.10", 100000,
+            "간식", "과자", "디저트", "아이스크림", "쿠키", "초콜릿"),
+        new MissionDefinition("ADULT", "DELIVERY", "배달음식비 절약하기", 28, "0.25", 200000,
+            "배달", "주문", "치킨", "피자", "햄버거", "족발", "중국집", "배민", "요기요"),
+        new MissionDefinition("RICH", "SHOPPING", "쇼핑비 절약하기", 28, "0.20", 500000,
+            "쇼핑", "옷", "신발", "화장품", "가방", "액세서리", "쿠팡", "11번가"),
+        new MissionDefinition("BILLIONAIRE", "LUXURY", "사치품 절약하기", 28, "0.05", 1000000,
+            "명품", "럭셔리", "브랜드", "고급", "시계", "보석")
+    );
+
+    private final String stage;
+    private final String missionType;
+    private final String description;
+    private final int windowDays;
+    private final BigDecimal budgetRatio;
+    private final BigDecimal targetAmount;
+    private final List<String> keywords;
+
+    public MissionDefinition(String stage, String missionType, String description, int windowDays,
+                             String budgetRatio, long targetAmount, String... keywords) {
+        this.stage = stage;
+        this.missionType = missionType;
+        this.description = description;
+        this.windowDays = windowDays;
+        this.budgetRatio = new BigDecimal(budgetRatio);
+        this.targetAmount = BigDecimal.valueOf(targetAmount);
+        this.keywords = List.of(keywords);
+    }
+
+    public static MissionDefinition find(String missionType) {
+        for (MissionDefinition definition : CATALOG) {
+            if (definition.missionType.equals(missionType)) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    public Mission toMission() {
+        return new Mission(stage, missionType, description, targetAmount);
+    }
+
+    public String getStage() { return stage; }
+    public String getMissionType() { return missionType; }
+    public String getDescription() { return description; }
+    public int getWindowDays() { return windowDays; }
+    public BigDecimal getBudgetRatio() { return budgetRatio; }
+    public BigDecimal getTargetAmount() { return targetAmount; }
+    public List<String> getKeywords() { return keywords; }
+}
@@ -0,0 +1,136 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 미션 규칙 엔진
+ * MissionDefinition.CATALOG 를 평가기로 컴파일하고, 거래 생성 이벤트마다 일치하는 평가기의 상태만 갱신한다.
+ * 진행도 조회는 평가기의 누적 합계를 읽으므로 거래 테이블을 다시 훑지 않는다.
+ * 삭제/초기화처럼 차감할 금액을 모르는 변경은 무효화만 해 두고, 다음 조회 때 모든 평가기를 최근 기간 한 번의 스캔으로 다시 채운다.
+ */
+@Component
+public class MissionEngine implements OutboxProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(MissionEngine.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Outbox outbox;
+
+    private final Map<String, MissionEvaluator> evaluators = new LinkedHashMap<>();
+    private final int maxWindowDays = MissionDefinition.CATALOG.stream()
+        .mapToInt(MissionDefinition::getWindowDays).max().orElse(0);
+    private boolean stale = true;
+
+    // 마지막 재구성 스캔에 반영된 아웃박스 이벤트 위치
+    private volatile long scannedThrough;
+
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        long before = outbox.lastEventId();
+        evaluators.clear();
+        for (MissionDefinition definition : MissionDefinition.CATALOG) {
+            evaluators.put(definition.getMissionType(), new MissionEvaluator(definition, today));
+        }
+
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(1000);
+        RowCallbackHandler handler = rs -> dispatch(rs.getString(1), rs.getBigDecimal(2),
+            rs.getTimestamp(3).toLocalDateTime().toLocalDate());
+        cursor.query("SELECT description, amount, created_at FROM transaction WHERE type = 'expense' AND created_at >= ?",
+            handler, Timestamp.valueOf(today.minusDays(maxWindowDays).atStartOfDay()));
+        scannedThrough = outbox.scannedThrough(before);
+        stale = false;
+        log.debug("미션 평가기 {}개 재구성", evaluators.size());
+    }
+
+    @Override
+    public String getProjectionName() {
+        return "mission-engine";
+    }
+
+    @Override
+    public boolean isRebuiltFromSource() {
+        return true;
+    }
+
+    @Override
+    public void resetProjection() {
+        rebuild();
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        if (event.getId() <= scannedThrough) {
+            return; // 재구성 스캔에 이미 반영된 이벤트
+        }
+        switch (event.getEventType()) {
+            case OutboxEvent.TRANSACTION_CREATED:
+                onTransactionCreated(outbox.readTransaction(event));
+                break;
+            case OutboxEvent.TRANSACTIONS_DELETED:
+            case OutboxEvent.TRANSACTION_RANGE_DELETED:
+            case OutboxEvent.TRANSACTIONS_RESET:
+                invalidate();
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized void onTransactionCreated(Transaction transaction) {
+        if (stale || !"expense".equals(transaction.getType()) || transaction.getCreatedAt() == null) {
+            return;
+        }
+        advanceTo(LocalDate.now());
+        dispatch(transaction.getDescription(), transaction.getAmount(), transaction.getCreatedAt().toLocalDate());
+    }
+
+    /**
+     * 거래가 삭제되거나 초기화되었을 때 - 다음 조회에서 다시 채운다
+     */
+    public synchronized void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * 미션 유형의 현재 절약액 (등록되지 않은 유형은 0)
+     */
+    public synchronized BigDecimal savings(String missionType, BigDecimal budgetTarget) {
+        if (stale) {
+            rebuild();
+        }
+        advanceTo(LocalDate.now());
+        MissionEvaluator evaluator = evaluators.get(missionType);
+        return evaluator != null ? evaluator.savings(budgetTarget) : BigDecimal.ZERO;
+    }
+
+    private void dispatch(String description, BigDecimal amount, LocalDate date) {
+        if (amount == null) {
+            return; // 금액이 없는 거래는 건너뛴다 (SpendForecaster 와 같이)
+        }
+        for (MissionEvaluator evaluator : evaluators.values()) {
+            if (evaluator.matches(description)) {
+                evaluator.apply(date, amount);
+            }
+        }
+    }
+
+    private void advanceTo(LocalDate today) {
+        for (MissionEvaluator evaluator : evaluators.values()) {
+            evaluator.advanceTo(today);
+        }
+    }
+}
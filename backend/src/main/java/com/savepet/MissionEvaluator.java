@@ -0,0 +1,102 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * MissionDefinition 을 컴파일한 평가기
+ * 최근 windowDays 일의 일별 카테고리 지출을 원형 버퍼에 두고 기간 합계를 유지한다.
+ * 거래가 들어오면 해당 날짜 칸과 합계만 고치고, 날짜가 지나면 빠져나간 칸만 합계에서 뺀다.
+ */
+public class MissionEvaluator {
+
+    private final MissionDefinition definition;
+    private final String[] keywords;
+    private final BigDecimal[] daily;
+    private final long[] dayOf;
+    private BigDecimal windowTotal = BigDecimal.ZERO;
+    private long today;
+
+    public MissionEvaluator(MissionDefinition definition, LocalDate today) {
+        this.definition = definition;
+        this.keywords = definition.getKeywords().stream().map(String::toLowerCase).toArray(String[]::new);
+        // 오늘을 포함해 windowDays 일 전까지 (기존 계산의 minusWeeks(4) 이상 조건과 같음)
+        this.daily = new BigDecimal[definition.getWindowDays() + 1];
+        this.dayOf = new long[daily.length];
+        this.today = today.toEpochDay();
+        for (int i = 0; i < daily.length; i++) {
+            daily[i] = BigDecimal.ZERO;
+            dayOf[i] = Long.MIN_VALUE;
+        }
+    }
+
+    public MissionDefinition getDefinition() {
+        return definition;
+    }
+
+    public boolean matches(String description) {
+        if (description == null) {
+            return false;
+        }
+        String desc = description.toLowerCase();
+        for (String keyword : keywords) {
+            if (desc.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지출 한 건 반영. 기간 밖(오래된 날짜, 미래 날짜)은 무시
+     */
+    public void apply(LocalDate date, BigDecimal amount) {
+        long day = date.toEpochDay();
+        if (day > today || day < today - definition.getWindowDays()) {
+            return;
+        }
+        int slot = slotOf(day);
+        if (dayOf[slot] != day) {
+            windowTotal = windowTotal.subtract(daily[slot]);
+            daily[slot] = BigDecimal.ZERO;
+            dayOf[slot] = day;
+        }
+        daily[slot] = daily[slot].add(amount);
+        windowTotal = windowTotal.add(amount);
+    }
+
+    /**
+     * 기간의 끝을 오늘로 옮기고, 기간을 벗어난 날의 지출을 합계에서 뺀다
+     */
+    public void advanceTo(LocalDate date) {
+        long target = date.toEpochDay();
+        if (target <= today) {
+            return;
+        }
+        long oldest = target - definition.getWindowDays();
+        for (int i = 0; i < daily.length; i++) {
+            if (dayOf[i] != Long.MIN_VALUE && dayOf[i] < oldest) {
+                windowTotal = windowTotal.subtract(daily[i]);
+                daily[i] = BigDecimal.ZERO;
+                dayOf[i] = Long.MIN_VALUE;
+            }
+        }
+        today = target;
+    }
+
+    public BigDecimal getWindowExpenses() {
+        return windowTotal;
+    }
+
+    /**
+     * 절약액 = 예산 x 비율 - 기간 지출 (음수면 0)
+     */
+    public BigDecimal savings(BigDecimal budgetTarget) {
+        BigDecimal savings = budgetTarget.multiply(definition.getBudgetRatio()).subtract(windowTotal);
+        return savings.signum() > 0 ? savings : BigDecimal.ZERO;
+    }
+
+    private int slotOf(long day) {
+        return (int) Math.floorMod(day, (long) daily.length);
+    }
+}
@@ -1,6 +1,8 @@
 package com.savepet;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -8,5 +10,11 @@ import java.util.List;
 public interface MissionRepository extends JpaRepository<Mission, Long> {
     List<Mission> findByStageOrderByIdAsc(String stage);
     List<Mission> findByCompletedTrue();
+    long countByCompletedTrue();
+    long countByStageAndCompletedTrue(String stage);
     Mission findByStageAndMissionType(String stage, String missionType);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Mission m SET m.completed = false, m.completedAt = null")
+    int resetAllProgress();
 }
\ No newline at end of file
@@ -1,42 +1,87 @@
 package com.savepet;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
+@Timed(value = "savepet.service", histogram = true)
 public class MissionService {
     
+    private static final Logger log = LoggerFactory.getLogger(MissionService.class);
+    private static final String MISSION_CACHE = "mission";
+    
     @Autowired
     private MissionRepository missionRepository;
     
     @Autowired
-    private TransactionRepository transactionRepository;
+    private MissionEngine missionEngine;
+    
+    @Autowired
+    private CharacterRepository characterRepository;
+    
+    @Autowired
+    private BudgetCache budgetCache;
     
     @Autowired
-    private BudgetRepository budgetRepository;
+    private CacheInvalidationBus cacheBus;
+    
+    @Autowired
+    private SavepetMetrics metrics;
+    
+    // 미션 시드 여부. 기동 시점이 아니라 미션을 처음 사용할 때 채운다
+    private volatile boolean missionsSeeded;
     
     public void initializeMissions() {
+        if (missionsSeeded) {
+            return;
+        }
+        synchronized (this) {
+            if (missionsSeeded) {
+                return;
+            }
+            seedMissions();
+            missionsSeeded = true;
+        }
+    }
+    
+    private void seedMissions() {
         if (missionRepository.count() > 0) {
             return; // 이미 초기화됨
         }
         
         // 단계별 미션 생성
-        missionRepository.save(new Mission("EGG", "COFFEE", "커피값 절약하기", BigDecimal.valueOf(50000)));
-        missionRepository.save(new Mission("BABY", "SNACK", "간식비 절약하기", BigDecimal.valueOf(100000)));
-        missionRepository.save(new Mission("ADULT", "DELIVERY", "배달음식비 절약하기", BigDecimal.valueOf(200000)));
-        missionRepository.save(new Mission("RICH", "SHOPPING", "쇼핑비 절약하기", BigDecimal.valueOf(500000)));
-        missionRepository.save(new Mission("BILLIONAIRE", "LUXURY", "사치품 절약하기", BigDecimal.valueOf(1000000)));
+        for (MissionDefinition definition : MissionDefinition.CATALOG) {
+            missionRepository.save(definition.toMission());
+        }
+        invalidateMissionCache();
     }
     
+    /**
+     * 단계별 미션 목록 (읽기 캐시 - 완료/초기화 시 모든 인스턴스에서 무효화)
+     */
     public List<Mission> getCurrentMissions(String characterStage) {
-        return missionRepository.findByStageOrderByIdAsc(characterStage);
+        initializeMissions();
+        CoherentCache<List<Mission>> cache = cacheBus.cache(MISSION_CACHE);
+        return cache.get(CacheInvalidationBus.DEFAULT_USER, characterStage,
+            () -> missionRepository.findByStageOrderByIdAsc(characterStage));
+    }
+    
+    public void invalidateMissionCache() {
+        cacheBus.invalidate(MISSION_CACHE, InvalidationMessage.ALL);
     }
     
-    public Mission checkMissionCompletion(String stage, String missionType, BigDecimal savedAmount) {
+    /**
+     * 미션 완료 체크. 완료되면 캐릭터의 진행 카운터도 함께 올린다 (호출자가 같은 트랜잭션에서 캐릭터를 저장)
+     */
+    public Mission checkMissionCompletion(Character character, String stage, String missionType, BigDecimal savedAmount) {
+        initializeMissions();
         Mission mission = missionRepository.findByStageAndMissionType(stage, missionType);
         
         if (mission != null && !mission.getCompleted()) {
@@ -44,17 +89,16 @@ public class MissionService {
             BigDecimal actualSavings = calculateActualSavings(missionType);
             
             if (actualSavings.compareTo(mission.getTargetAmount()) >= 0) {
-                mission.setCompleted(true);
-                mission.setCompletedAt(LocalDateTime.now());
-                return missionRepository.save(mission);
+                log.info("미션 완료: {} / {}", stage, missionType);
+                return markCompleted(character, mission);
             }
         }
         
         return mission;
     }
     
-    public int getCompletedMissionCount() {
-        return missionRepository.findByCompletedTrue().size();
+    public long getCompletedMissionCount() {
+        return missionRepository.countByCompletedTrue();
     }
     
     public MissionProgress getMissionProgress(String characterStage) {
@@ -73,7 +117,7 @@ public class MissionService {
             try {
                 currentSavings = calculateActualSavings(currentMission.getMissionType());
             } catch (Exception e) {
-                System.err.println("절약액 계산 중 오류: " + e.getMessage());
+                log.warn("절약액 계산 중 오류: {}", e.getMessage());
             }
             
             return new MissionProgress(
@@ -84,96 +128,30 @@ public class MissionService {
                 currentMission.getCompleted() != null ? currentMission.getCompleted() : false
             );
         } catch (Exception e) {
-            System.err.println("MissionProgress 조회 중 오류: " + e.getMessage());
+            log.warn("MissionProgress 조회 중 오류: {}", e.getMessage());
             return new MissionProgress("미션 로딩 실패", "", BigDecimal.ZERO, BigDecimal.ZERO, false);
         }
     }
     
     /**
-     * 실제 절약액을 계산하는 메서드
-     * 목표 예산 대비 해당 카테고리의 실제 지출 차이를 계산
+     * 실제 절약액 - 목표 예산 대비 해당 카테고리의 최근 지출 차이 (MissionEngine 의 누적 상태를 읽음)
      */
     private BigDecimal calculateActualSavings(String category) {
-        LocalDate startDate = LocalDate.now().minusWeeks(4);
-        
-        // 현재 예산 정보 가져오기
-        Budget currentBudget = budgetRepository.findById(1L).orElse(new Budget());
-        
-        // 전체 예산에서 해당 카테고리의 예상 비율 계산 (간단한 예시)
-        BigDecimal categoryBudgetRatio = getCategoryBudgetRatio(category);
-        BigDecimal categoryTargetAmount = currentBudget.getTargetAmount().multiply(categoryBudgetRatio);
-        
-        // 해당 카테고리의 실제 지출 계산
-        BigDecimal actualExpenses = transactionRepository.findByOrderByCreatedAtDesc()
-            .stream()
-            .filter(t -> "expense".equals(t.getType()))
-            .filter(t -> !t.getCreatedAt().toLocalDate().isBefore(startDate))
-            .filter(t -> isMatchingCategory(t.getDescription(), category))
-            .map(Transaction::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        // 절약액 = 목표 지출 - 실제 지출 (양수면 절약, 음수면 초과)
-        BigDecimal savings = categoryTargetAmount.subtract(actualExpenses);
-        
-        // 음수인 경우 0으로 반환 (절약하지 못한 경우)
-        return savings.compareTo(BigDecimal.ZERO) > 0 ? savings : BigDecimal.ZERO;
-    }
-    
-    /**
-     * 카테고리별 예산 비율 반환
-     * 실제 앱에서는 사용자가 설정하거나 통계 기반으로 계산할 수 있음
-     */
-    private BigDecimal getCategoryBudgetRatio(String category) {
-        switch (category) {
-            case "COFFEE": return BigDecimal.valueOf(0.15); // 15%
-            case "SNACK": return BigDecimal.valueOf(0.10);  // 10%
-            case "DELIVERY": return BigDecimal.valueOf(0.25); // 25%
-            case "SHOPPING": return BigDecimal.valueOf(0.20); // 20%
-            case "LUXURY": return BigDecimal.valueOf(0.05);   // 5%
-            default: return BigDecimal.valueOf(0.10);         // 기본 10%
-        }
-    }
-    
-    private boolean isMatchingCategory(String description, String category) {
-        String desc = description.toLowerCase();
-        switch (category) {
-            case "COFFEE": 
-                return desc.contains("커피") || desc.contains("카페") || 
-                       desc.contains("스타벅스") || desc.contains("아메리카노") ||
-                       desc.contains("라떼") || desc.contains("coffee");
-            case "SNACK": 
-                return desc.contains("간식") || desc.contains("과자") || 
-                       desc.contains("디저트") || desc.contains("아이스크림") ||
-                       desc.contains("쿠키") || desc.contains("초콜릿");
-            case "DELIVERY": 
-                return desc.contains("배달") || desc.contains("주문") || 
-                       desc.contains("치킨") || desc.contains("피자") ||
-                       desc.contains("햄버거") || desc.contains("족발") ||
-                       desc.contains("중국집") || desc.contains("배민") ||
-                       desc.contains("요기요");
-            case "SHOPPING": 
-                return desc.contains("쇼핑") || desc.contains("옷") || 
-                       desc.contains("신발") || desc.contains("화장품") ||
-                       desc.contains("가방") || desc.contains("액세서리") ||
-                       desc.contains("쿠팡") || desc.contains("11번가");
-            case "LUXURY": 
-                return desc.contains("명품") || desc.contains("럭셔리") ||
-                       desc.contains("브랜드") || desc.contains("고급") ||
-                       desc.contains("시계") || desc.contains("보석");
-            default: 
-                return false;
-        }
+        Budget currentBudget = budgetCache.current().orElse(new Budget());
+        return missionEngine.savings(category, currentBudget.getTargetAmount());
     }
     
     /**
      * 특정 카테고리의 미션을 강제로 완료 처리하는 메서드 (테스트용)
      */
-    public Mission completeMission(String stage, String missionType) {
+    @Transactional
+    public Mission completeMission(Character character, String stage, String missionType) {
+        initializeMissions();
         Mission mission = missionRepository.findByStageAndMissionType(stage, missionType);
         if (mission != null && !mission.getCompleted()) {
-            mission.setCompleted(true);
-            mission.setCompletedAt(LocalDateTime.now());
-            return missionRepository.save(mission);
+            Mission saved = markCompleted(character, mission);
+            characterRepository.save(character);
+            return saved;
         }
         return mission;
     }
@@ -181,20 +159,34 @@ public class MissionService {
     /**
      * 모든 미션 진행 상황을 확인하는 메서드
      */
-    public void checkAllMissions(String characterStage) {
-        List<Mission> missions = getCurrentMissions(characterStage);
+    @Transactional
+    public void checkAllMissions(Character character) {
+        initializeMissions();
+        List<Mission> missions = missionRepository.findByStageOrderByIdAsc(character.getStage());
+        boolean changed = false;
         
         for (Mission mission : missions) {
             if (!mission.getCompleted()) {
                 BigDecimal actualSavings = calculateActualSavings(mission.getMissionType());
                 
                 if (actualSavings.compareTo(mission.getTargetAmount()) >= 0) {
-                    mission.setCompleted(true);
-                    mission.setCompletedAt(LocalDateTime.now());
-                    missionRepository.save(mission);
+                    markCompleted(character, mission);
+                    changed = true;
                 }
             }
         }
+        if (changed) {
+            characterRepository.save(character);
+        }
+    }
+    
+    private Mission markCompleted(Character character, Mission mission) {
+        mission.setCompleted(true);
+        mission.setCompletedAt(LocalDateTime.now());
+        character.recordMissionCompleted(mission.getStage());
+        metrics.missionCompleted(mission.getStage(), mission.getMissionType());
+        cacheBus.invalidate(MISSION_CACHE, mission.getStage());
+        return missionRepository.save(mission);
     }
     
     public static class MissionProgress {
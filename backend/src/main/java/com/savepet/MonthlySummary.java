@@ -0,0 +1,42 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 보관된 거래의 월별/카테고리별 합계
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_monthly_summary_month", columnList = "monthStart, type, category", unique = true))
+public class MonthlySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private LocalDate monthStart;
+    private String type;
+    private String category;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private Long transactionCount = 0L;
+    
+    public MonthlySummary() {}
+    
+    public MonthlySummary(LocalDate monthStart, String type, String category) {
+        this.monthStart = monthStart;
+        this.type = type;
+        this.category = category;
+    }
+    
+    public void add(BigDecimal amount) {
+        this.totalAmount = this.totalAmount.add(amount);
+        this.transactionCount++;
+    }
+    
+    public Long getId() { return id; }
+    public LocalDate getMonthStart() { return monthStart; }
+    public String getType() { return type; }
+    public String getCategory() { return category; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public Long getTransactionCount() { return transactionCount; }
+}
@@ -0,0 +1,19 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, Long> {
+    List<MonthlySummary> findByMonthStart(LocalDate monthStart);
+    MonthlySummary findByMonthStartAndTypeAndCategory(LocalDate monthStart, String type, String category);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MonthlySummary s WHERE s.monthStart >= :from AND s.monthStart < :to")
+    int deleteByMonthRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,167 @@
+package com.savepet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 기록/해석
+ * 기록은 반드시 호출자의 트랜잭션 안에서 일어나므로 도메인 변경이 롤백되면 이벤트도 남지 않는다.
+ * 커밋되면 대기 중인 OutboxDispatcher 를 깨운다.
+ */
+@Service
+public class Outbox {
+
+    private static final TypeReference<List<Long>> ID_LIST = new TypeReference<>() {};
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Object appended = new Object();
+    private long appendCount;
+
+    // 이 id 까지는 빈 자리가 없다 (모두 커밋되었거나 빈 이벤트로 채워졌거나, 전달이 끝나 지워졌다). OutboxDispatcher 가 올린다
+    private volatile long deliveredThrough;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, Object payload) {
+        try {
+            eventRepository.save(new OutboxEvent(eventType, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+        AfterCommit.run(this::signal);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionCreated(Transaction transaction) {
+        publish(OutboxEvent.TRANSACTION_CREATED, transaction);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsDeleted(Collection<Long> ids) {
+        publish(OutboxEvent.TRANSACTIONS_DELETED, ids);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionRangeDeleted(LocalDateTime from, LocalDateTime to) {
+        publish(OutboxEvent.TRANSACTION_RANGE_DELETED, Map.of("from", from.toString(), "to", to.toString()));
+    }
+
+    /**
+     * [from, to) 기간의 거래가 보관 테이블로 옮겨짐 (행 자체는 남아 있다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsArchived(LocalDateTime from, LocalDateTime to) {
+        publish(OutboxEvent.TRANSACTIONS_ARCHIVED, Map.of("from", from.toString(), "to", to.toString()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsReset() {
+        publish(OutboxEvent.TRANSACTIONS_RESET, Map.of());
+    }
+
+    public Transaction readTransaction(OutboxEvent event) throws JsonProcessingException {
+        return objectMapper.readValue(event.getPayload(), Transaction.class);
+    }
+
+    public List<Long> readIds(OutboxEvent event) throws JsonProcessingException {
+        return objectMapper.readValue(event.getPayload(), ID_LIST);
+    }
+
+    public LocalDateTime[] readRange(OutboxEvent event) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(event.getPayload());
+        return new LocalDateTime[] {
+            LocalDateTime.parse(node.get("from").asText()),
+            LocalDateTime.parse(node.get("to").asText())
+        };
+    }
+
+    /**
+     * 원본 테이블을 다시 훑는 투영이 스캔 직전에 읽어 두는 위치.
+     * MAX(id) 가 아니라 빈 자리 없이 커밋된 마지막 id 다. 그 사이의 아직 커밋되지 않은 이벤트는 스캔에도 빠지므로 건너뛰면 안 된다.
+     */
+    public long lastEventId() {
+        return scannedThrough(deliveredThrough);
+    }
+
+    /**
+     * 스캔이 끝난 뒤, 스캔 직전 위치(before) 다음부터 빈 id 없이 이어지는 마지막 이벤트 id.
+     * 여기까지의 이벤트는 스캔 중에 커밋되어 이미 반영됐으므로 투영이 건너뛴다.
+     * 아직 커밋되지 않은 id(빈 자리)에서 멈추므로 스캔이 못 본 거래의 이벤트는 건너뛰지 않는다.
+     */
+    public long scannedThrough(long before) {
+        long position = before;
+        for (Long id : eventRepository.findIdsAfter(before)) {
+            if (id != position + 1) {
+                break;
+            }
+            position = id;
+        }
+        return position;
+    }
+
+    /**
+     * 빈 id 자리에 빈 이벤트(OutboxEvent.GAP)를 넣어 본다.
+     * 그 id 를 받은 트랜잭션이 아직 진행 중이면 DB 가 그 트랜잭션이 끝날 때까지(잠금 대기 시간까지) 이 insert 를 세워 두므로,
+     * 성공하면 롤백된 것이 확실하다. 그 사이 커밋됐으면 DuplicateKeyException, 계속 진행 중이면 ConcurrencyFailureException.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fillGap(long id) {
+        jdbcTemplate.update("INSERT INTO outbox_event (id, event_type, payload, created_at) VALUES (?, ?, ?, ?)",
+            id, OutboxEvent.GAP, "{}", Timestamp.valueOf(LocalDateTime.now()));
+        AfterCommit.run(this::signal);
+    }
+
+    long deliveredThrough() {
+        return deliveredThrough;
+    }
+
+    void markDelivered(long eventId) {
+        if (eventId > deliveredThrough) {
+            deliveredThrough = eventId;
+        }
+    }
+
+    private void signal() {
+        synchronized (appended) {
+            appendCount++;
+            appended.notifyAll();
+        }
+    }
+
+    /**
+     * 마지막으로 확인한 이후 새 이벤트가 커밋될 때까지(또는 timeout 까지) 대기하고, 현재 카운트를 돌려준다
+     */
+    long awaitAppend(long seenCount, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (appended) {
+            while (appendCount == seenCount) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(appended, remaining);
+            }
+            return appendCount;
+        }
+    }
+}
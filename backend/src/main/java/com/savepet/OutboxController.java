@@ -0,0 +1,36 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/outbox")
+@CrossOrigin(origins = "http://localhost:3000")
+public class OutboxController {
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    /**
+     * 투영별 체크포인트와 처리되지 않은 이벤트 수, 재시도 중인 이벤트(stuck)와 보류된 이벤트 수
+     */
+    @GetMapping("/status")
+    public Map<String, OutboxDispatcher.ProjectionStatus> getStatus() {
+        return dispatcher.getStatus();
+    }
+
+    /**
+     * 재시도 한도를 넘겨 건너뛴 이벤트 (최근 100건)
+     */
+    @GetMapping("/dead-letters")
+    public List<OutboxDeadLetter> getDeadLetters() {
+        return dispatcher.getDeadLetters();
+    }
+
+    @PostMapping("/replay/{projection}")
+    public OutboxDispatcher.ProjectionStatus replay(@PathVariable String projection) {
+        return dispatcher.replay(projection);
+    }
+}
@@ -0,0 +1,49 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 투영이 재시도 한도까지 처리하지 못해 건너뛴 아웃박스 이벤트 (원본 이벤트가 정리돼도 남도록 내용을 복사해 둔다)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_dead_letter_projection", columnList = "projection, id"))
+public class OutboxDeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String projection;
+    private Long eventId;
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    private Integer attempts;
+
+    @Column(length = 1000)
+    private String error;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public OutboxDeadLetter() {}
+
+    public OutboxDeadLetter(String projection, OutboxEvent event, int attempts, String error) {
+        this.projection = projection;
+        this.eventId = event.getId();
+        this.eventType = event.getEventType();
+        this.payload = event.getPayload();
+        this.attempts = attempts;
+        this.error = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public Long getId() { return id; }
+    public String getProjection() { return projection; }
+    public Long getEventId() { return eventId; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public Integer getAttempts() { return attempts; }
+    public String getError() { return error; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
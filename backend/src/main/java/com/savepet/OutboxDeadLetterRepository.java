@@ -0,0 +1,12 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+    long countByProjection(String projection);
+
+    List<OutboxDeadLetter> findTop100ByOrderByIdDesc();
+}
@@ -0,0 +1,384 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 이벤트를 등록된 투영에 id 순서대로 전달하는 전용 스레드
+ * 투영마다 체크포인트를 두고 각자의 체크포인트 다음부터 읽어, 처리에 성공한 이벤트까지만 전진시킨다
+ * (실패하면 그 이벤트부터 재시도 - at-least-once). 한 투영의 실패가 다른 투영의 진행을 막지 않으며,
+ * max-attempts 번 실패한 이벤트는 OutboxDeadLetter 로 옮기고 건너뛴다.
+ * IDENTITY id 는 커밋이 아니라 insert 시점에 정해지므로, 아직 커밋되지 않은 id(빈 자리) 앞에서 멈춘다.
+ * 빈 자리는 시간으로 건너뛰지 않고, 그 id 를 받은 트랜잭션이 롤백된 것을 확인한 뒤 빈 이벤트로 채운다 (Outbox.fillGap).
+ * 모든 투영이 지나간 이벤트는 주기적으로 지운다.
+ */
+@Component
+@Lazy(false) // 지연 초기화 프로필에서도 기동 시 전달 스레드가 시작되도록
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private ProjectionCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private OutboxDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private List<OutboxProjection> projections;
+
+    @Value("${savepet.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    // 빈 id 를 받은 트랜잭션이 끝났는지 확인하기 전에 기다리는 시간 (확인은 그 트랜잭션이 끝날 때까지 전달 스레드를 세워 둔다)
+    @Value("${savepet.outbox.gap-grace-ms:1000}")
+    private long gapGraceMillis;
+
+    // 한 이벤트를 이만큼 실패하면 보류 목록으로 옮기고 건너뛴다
+    @Value("${savepet.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    private final Map<String, ProjectionCheckpoint> checkpoints = new LinkedHashMap<>();
+    // 투영별로 재시도 중인 이벤트 (재기동하면 처음부터 다시 센다)
+    private final Map<String, Failure> failures = new HashMap<>();
+    private final Object deliveryLock = new Object();
+    private Thread worker;
+    private volatile boolean running;
+
+    // 기다리는 중인 빈 id 와 처음 본 시각
+    private long pendingGap;
+    private long pendingGapSince;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (deliveryLock) {
+            for (OutboxProjection projection : projections) {
+                ProjectionCheckpoint checkpoint = checkpointRepository.findById(projection.getProjectionName())
+                    .orElseGet(() -> new ProjectionCheckpoint(projection.getProjectionName(), 0L));
+                checkpoints.put(projection.getProjectionName(), checkpoint);
+                // 체크포인트는 빈 자리 없이 이어진 구간만 지나가므로, 그 아래의 빈 id 는 이미 지워진 이벤트다
+                outbox.markDelivered(checkpoint.getLastEventId());
+            }
+            for (OutboxProjection projection : projections) {
+                ProjectionCheckpoint checkpoint = checkpoints.get(projection.getProjectionName());
+                if (projection.isRebuiltFromSource()) {
+                    rebuildFromSource(projection, checkpoint);
+                } else {
+                    checkpointRepository.save(checkpoint);
+                }
+            }
+        }
+        running = true;
+        worker = new Thread(this::run, "savepet-outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("아웃박스 전달 시작: 투영 {}개", projections.size());
+    }
+
+    private void run() {
+        long seen = 0;
+        while (running) {
+            try {
+                if (!deliverOnce()) {
+                    seen = outbox.awaitAppend(seen, pollIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("아웃박스 전달 주기 오류", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 투영마다 자기 체크포인트 다음부터 한 묶음을 읽어 전달 (같은 위치의 투영끼리는 한 번 읽은 묶음을 같이 쓴다).
+     * 재시도를 기다리는 투영은 건너뛴다. 하나라도 전진했으면 true
+     */
+    boolean deliverOnce() {
+        synchronized (deliveryLock) {
+            Map<Long, List<OutboxEvent>> batches = new HashMap<>();
+            long now = System.currentTimeMillis();
+            boolean progressed = false;
+            for (OutboxProjection projection : projections) {
+                Failure failure = failures.get(projection.getProjectionName());
+                if (failure != null && now < failure.retryAt) {
+                    continue;
+                }
+                ProjectionCheckpoint checkpoint = checkpoints.get(projection.getProjectionName());
+                long from = checkpoint.getLastEventId();
+                long position = deliver(projection, from, batches.computeIfAbsent(from, this::readBatch));
+                if (position > from) {
+                    checkpoint.advanceTo(position);
+                    checkpointRepository.save(checkpoint);
+                    outbox.markDelivered(position);
+                    progressed = true;
+                }
+            }
+            return progressed;
+        }
+    }
+
+    /**
+     * 처리한(또는 보류 목록으로 옮긴) 마지막 이벤트 id. 재시도할 이벤트를 만나면 그 앞에서 멈춘다
+     */
+    private long deliver(OutboxProjection projection, long position, List<OutboxEvent> events) {
+        String name = projection.getProjectionName();
+        for (OutboxEvent event : events) {
+            try {
+                projection.handle(event);
+                failures.remove(name);
+            } catch (Exception e) {
+                if (!deadLetter(name, event, e)) {
+                    return position;
+                }
+            }
+            position = event.getId();
+        }
+        return position;
+    }
+
+    /**
+     * 실패 횟수를 세고, 한도에 닿으면 이벤트를 보류 목록에 복사해 두고 건너뛴다. 건너뛰면 true
+     */
+    private boolean deadLetter(String projection, OutboxEvent event, Exception e) {
+        Failure failure = failures.get(projection);
+        if (failure == null || failure.eventId != event.getId()) {
+            failure = new Failure(event.getId());
+            failures.put(projection, failure);
+        }
+        failure.attempts++;
+        failure.error = String.valueOf(e);
+        if (failure.attempts < maxAttempts) {
+            failure.retryAt = System.currentTimeMillis() + pollIntervalMillis * failure.attempts;
+            log.warn("투영 {} 이벤트 #{}({}) 처리 실패 {}/{}회, 재시도 예정: {}",
+                projection, event.getId(), event.getEventType(), failure.attempts, maxAttempts, failure.error);
+            return false;
+        }
+        deadLetterRepository.save(new OutboxDeadLetter(projection, event, failure.attempts, failure.error));
+        failures.remove(projection);
+        log.error("투영 {} 이벤트 #{}({}) 를 {}회 처리하지 못해 보류 목록으로 옮기고 건너뜀",
+            projection, event.getId(), event.getEventType(), maxAttempts, e);
+        return true;
+    }
+
+    private List<OutboxEvent> readBatch(long from) {
+        return contiguous(from, eventRepository.findTop500ByIdGreaterThanOrderByIdAsc(from));
+    }
+
+    /**
+     * from 다음부터 빈 id 없이 이어지는 앞부분만 돌려준다. deliveredThrough 이하의 빈 자리는 전달이 끝나 지워진 이벤트라 넘어간다.
+     */
+    private List<OutboxEvent> contiguous(long from, List<OutboxEvent> events) {
+        long expected = from + 1;
+        for (int i = 0; i < events.size(); i++) {
+            long id = events.get(i).getId();
+            long missing = Math.max(expected, outbox.deliveredThrough() + 1);
+            if (missing < id) {
+                resolveGap(missing, id);
+                return events.subList(0, i);
+            }
+            expected = id + 1;
+        }
+        return events;
+    }
+
+    /**
+     * 빈 자리 [missing, next) 가 유예 시간을 넘기면 앞에서부터 채워 본다.
+     * 롤백이 확인된 id 만 빈 이벤트로 채우고, 커밋된 id 는 다음 주기에 읽으며, 아직 진행 중인 id 에서는 멈춘다.
+     */
+    private void resolveGap(long missing, long next) {
+        long now = System.currentTimeMillis();
+        if (pendingGap != missing) {
+            pendingGap = missing;
+            pendingGapSince = now;
+            return;
+        }
+        if (now - pendingGapSince < gapGraceMillis) {
+            return;
+        }
+        for (long id = missing; id < next; id++) {
+            try {
+                outbox.fillGap(id);
+                log.warn("아웃박스 이벤트 #{} 를 받은 트랜잭션이 롤백되어 빈 이벤트로 채움", id);
+            } catch (DuplicateKeyException e) {
+                // 확인하는 사이에 커밋됨 - 다음 주기에 읽는다
+            } catch (ConcurrencyFailureException e) {
+                log.debug("아웃박스 이벤트 #{} 를 받은 트랜잭션이 아직 진행 중", id);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 모든 투영이 처리한 이벤트 삭제. 이벤트로만 만드는 투영이 있으면 재생에 필요하므로 지우지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${savepet.outbox.retention-interval-ms:60000}")
+    @Transactional
+    public void prune() {
+        long through;
+        synchronized (deliveryLock) {
+            if (checkpoints.isEmpty() || projections.stream().anyMatch(p -> !p.isRebuiltFromSource())) {
+                return;
+            }
+            through = checkpoints.values().stream().mapToLong(ProjectionCheckpoint::getLastEventId).min().orElse(0L);
+            // 저장본에서 이어 받는 투영은 저장본 위치 뒤의 이벤트가 다음 기동에 필요하다
+            for (OutboxProjection projection : projections) {
+                long saved = projection.getSavedThrough();
+                if (saved >= 0) {
+                    through = Math.min(through, saved);
+                }
+            }
+        }
+        if (through > 0) {
+            int deleted = eventRepository.deleteThrough(through);
+            if (deleted > 0) {
+                log.debug("처리가 끝난 아웃박스 이벤트 {}건 삭제 (#{} 까지)", deleted, through);
+            }
+        }
+    }
+
+    /**
+     * 투영을 처음부터 다시 만든다. 원본 테이블에서 다시 만드는 투영은 재구성 후 최신 이벤트로,
+     * 이벤트로만 만드는 투영은 상태를 비우고 체크포인트 0 에서 모든 이벤트를 다시 받는다.
+     */
+    public ProjectionStatus replay(String projectionName) {
+        synchronized (deliveryLock) {
+            OutboxProjection projection = projections.stream()
+                .filter(p -> p.getProjectionName().equals(projectionName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 투영: " + projectionName));
+            ProjectionCheckpoint checkpoint = checkpoints.get(projectionName);
+            failures.remove(projectionName);
+            if (projection.isRebuiltFromSource()) {
+                rebuildFromSource(projection, checkpoint);
+            } else {
+                projection.resetProjection();
+                checkpoint.advanceTo(0L);
+                checkpointRepository.save(checkpoint);
+            }
+            log.info("투영 {} 재생 시작 (체크포인트 #{})", projectionName, checkpoint.getLastEventId());
+            return status(eventRepository.findLastId()).get(projectionName);
+        }
+    }
+
+    public Map<String, ProjectionStatus> getStatus() {
+        synchronized (deliveryLock) {
+            return status(eventRepository.findLastId());
+        }
+    }
+
+    private void rebuildFromSource(OutboxProjection projection, ProjectionCheckpoint checkpoint) {
+        // 재구성 전에 위치를 읽어야 재구성 중 커밋된 이벤트를 놓치지 않는다.
+        // MAX(id) 가 아니라 빈 자리 없이 커밋된 위치여야, 그 아래에서 아직 진행 중이던 트랜잭션의 이벤트를 나중에 받는다.
+        // 스캔에 이미 반영된 이벤트는 투영이 Outbox.scannedThrough 로 기록한 위치까지 건너뛴다.
+        // 저장본을 읽은 투영은 저장본이 반영한 위치로 옮긴다 (체크포인트보다 뒤일 수 있고, 그 사이 이벤트는 prune 이 남겨 둔다)
+        long head = outbox.lastEventId();
+        projection.resetProjection();
+        if (!projection.isRestoredFromSnapshot()) {
+            checkpoint.advanceTo(head);
+        } else if (projection.getSavedThrough() >= 0) {
+            checkpoint.advanceTo(projection.getSavedThrough());
+        }
+        checkpointRepository.save(checkpoint);
+    }
+
+    private Map<String, ProjectionStatus> status(long head) {
+        Map<String, ProjectionStatus> result = new LinkedHashMap<>();
+        for (ProjectionCheckpoint checkpoint : new ArrayList<>(checkpoints.values())) {
+            ProjectionStatus status = new ProjectionStatus(checkpoint.getProjection(),
+                checkpoint.getLastEventId(), head - checkpoint.getLastEventId());
+            Failure failure = failures.get(checkpoint.getProjection());
+            if (failure != null) {
+                status.failingEventId = failure.eventId;
+                status.attempts = failure.attempts;
+                status.lastError = failure.error;
+            }
+            status.deadLetters = deadLetterRepository.countByProjection(checkpoint.getProjection());
+            result.put(checkpoint.getProjection(), status);
+        }
+        return result;
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 인터럽트하면 파일 DB 채널이 닫힐 수 있으므로 현재 주기가 끝나기를 기다린다
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public List<OutboxDeadLetter> getDeadLetters() {
+        return deadLetterRepository.findTop100ByOrderByIdDesc();
+    }
+
+    private static class Failure {
+        private final long eventId;
+        private int attempts;
+        private long retryAt;
+        private String error;
+
+        private Failure(long eventId) {
+            this.eventId = eventId;
+        }
+    }
+
+    public static class ProjectionStatus {
+        private String projection;
+        private Long lastEventId;
+        private Long lag;
+        // 재시도 중인 이벤트 (null 이면 막힌 곳 없음)
+        private Long failingEventId;
+        private int attempts;
+        private String lastError;
+        private long deadLetters;
+
+        public ProjectionStatus(String projection, Long lastEventId, Long lag) {
+            this.projection = projection;
+            this.lastEventId = lastEventId;
+            this.lag = lag;
+        }
+
+        public String getProjection() { return projection; }
+        public Long getLastEventId() { return lastEventId; }
+        public Long getLag() { return lag; }
+        public Long getFailingEventId() { return failingEventId; }
+        public int getAttempts() { return attempts; }
+        public String getLastError() { return lastError; }
+        public long getDeadLetters() { return deadLetters; }
+        public boolean isStuck() { return failingEventId != null; }
+    }
+}
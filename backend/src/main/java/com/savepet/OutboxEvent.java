@@ -0,0 +1,44 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트 - 도메인 변경과 같은 트랜잭션에서 기록되고, id 순서대로 투영에 전달된다
+ */
+@Entity
+public class OutboxEvent {
+    public static final String TRANSACTION_CREATED = "transaction.created";
+    public static final String TRANSACTIONS_DELETED = "transaction.deleted";
+    public static final String TRANSACTION_RANGE_DELETED = "transaction.range-deleted";
+    public static final String TRANSACTIONS_RESET = "transaction.reset";
+    public static final String TRANSACTIONS_ARCHIVED = "transaction.archived";
+    public static final String BUDGET_UPDATED = "budget.updated";
+    public static final String EXPERIENCE_RECORDED = "character.experience";
+    public static final String CHARACTERS_RESET = "character.reset";
+    // 롤백된 트랜잭션이 남긴 빈 id 자리를 채우는 빈 이벤트 (투영은 무시한다)
+    public static final String GAP = "outbox.gap";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public OutboxEvent() {}
+
+    public OutboxEvent(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public Long getId() { return id; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
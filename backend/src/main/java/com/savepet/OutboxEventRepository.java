@@ -0,0 +1,23 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findTop500ByIdGreaterThanOrderByIdAsc(Long afterId);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findLastId();
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id <= :lastId")
+    int deleteThrough(@Param("lastId") Long lastId);
+}
@@ -0,0 +1,41 @@
+package com.savepet;
+
+/**
+ * 아웃박스 이벤트를 받아 파생 데이터를 갱신하는 투영
+ * 같은 이벤트가 두 번 올 수 있으므로(at-least-once) 가능하면 멱등하게 처리한다.
+ */
+public interface OutboxProjection {
+
+    String getProjectionName();
+
+    void handle(OutboxEvent event) throws Exception;
+
+    /**
+     * 메모리 상태라 기동/재생 시 원본 테이블에서 스스로 다시 만드는 투영이면 true.
+     * 이 경우 resetProjection() 직후 체크포인트를 그 시점의 마지막 이벤트로 옮긴다.
+     */
+    default boolean isRebuiltFromSource() {
+        return false;
+    }
+
+    /**
+     * 직전 resetProjection() 이 원본을 훑지 않고 저장해 둔 상태를 읽었으면 true.
+     * 이 경우 체크포인트를 저장본이 반영한 위치(getSavedThrough)로 옮겨 그 다음 이벤트부터 이어 받는다.
+     */
+    default boolean isRestoredFromSnapshot() {
+        return false;
+    }
+
+    /**
+     * 저장해 둔 상태가 반영한 마지막 이벤트 id (저장본이 없으면 -1).
+     * 다음 기동에 이 뒤의 이벤트부터 다시 받으므로, 체크포인트가 앞서 있어도 이 뒤의 이벤트는 정리하지 않는다.
+     */
+    default long getSavedThrough() {
+        return -1L;
+    }
+
+    /**
+     * 처음부터 다시 만들기 전에 호출 - 상태를 비우거나 원본 테이블에서 다시 만든다
+     */
+    void resetProjection();
+}
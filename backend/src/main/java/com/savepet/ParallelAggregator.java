@@ -0,0 +1,125 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 기간 집계기
+ * 기간 내 행 수가 임계값 이하면 한 번의 순차 스캔으로, 넘으면 기간을 시간 구간으로 나눠
+ * fork/join 풀에서 구간별로 스캔한 뒤 ExpenseAccumulator 를 병합한다.
+ * 쓰기 트랜잭션 안에서 불리면 커밋 전 변경이 보이도록 그 트랜잭션의 커넥션으로 순차 스캔한다.
+ */
+@Component
+public class ParallelAggregator {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String COLUMNS = "type, amount, description, created_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${savepet.aggregation.parallel-threshold:50000}")
+    private long parallelThreshold;
+
+    @Value("${savepet.aggregation.chunk-rows:20000}")
+    private long chunkRows;
+
+    // 구간마다 커넥션을 하나씩 쓰므로 커넥션 풀 크기를 넘지 않게 제한
+    private final ForkJoinPool pool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+    public ExpenseAccumulator aggregate(LocalDateTime from, LocalDateTime to, boolean includeArchive) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 구간 스캔은 다른 커넥션에서 돌아 호출자의 커밋 전 변경을 보지 못하므로 같은 트랜잭션에서 순차 스캔
+            // 읽기 전용 트랜잭션에는 커밋 전 변경이 없으므로 병렬 경로를 그대로 쓴다
+            return scan(from, to, includeArchive);
+        }
+        if (pool.getParallelism() < 2) {
+            // 코어가 하나면 구간을 나눠도 커넥션/병합 비용만 늘어난다
+            return scan(from, to, includeArchive);
+        }
+        long rows = countRows(from, to, includeArchive);
+        if (rows <= parallelThreshold) {
+            return scan(from, to, includeArchive);
+        }
+        return pool.invoke(new ChunkTask(from, to, rows, includeArchive));
+    }
+
+    /**
+     * 병렬 여부와 관계없이 순차 스캔 (벤치마크 비교용)
+     */
+    public ExpenseAccumulator aggregateSequential(LocalDateTime from, LocalDateTime to, boolean includeArchive) {
+        return scan(from, to, includeArchive);
+    }
+
+    private long countRows(LocalDateTime from, LocalDateTime to, boolean includeArchive) {
+        Long hot = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transaction WHERE created_at >= ? AND created_at < ?", Long.class, from, to);
+        long total = hot != null ? hot : 0L;
+        if (includeArchive) {
+            Long archived = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transaction_archive WHERE created_at >= ? AND created_at < ?", Long.class, from, to);
+            total += archived != null ? archived : 0L;
+        }
+        return total;
+    }
+
+    private ExpenseAccumulator scan(LocalDateTime from, LocalDateTime to, boolean includeArchive) {
+        ExpenseAccumulator accumulator = new ExpenseAccumulator();
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(FETCH_SIZE);
+        RowCallbackHandler handler = rs -> accumulator.add(
+            rs.getString(1), rs.getBigDecimal(2), rs.getString(3), rs.getTimestamp(4).toLocalDateTime());
+
+        cursor.query("SELECT " + COLUMNS + " FROM transaction WHERE created_at >= ? AND created_at < ?", handler, from, to);
+        if (includeArchive) {
+            cursor.query("SELECT " + COLUMNS + " FROM transaction_archive WHERE created_at >= ? AND created_at < ?", handler, from, to);
+        }
+        return accumulator;
+    }
+
+    // ForkJoinTask 가 Serializable 이지만 작업은 풀 안에서만 쓰이고 직렬화되지 않는다
+    @SuppressWarnings("serial")
+    private class ChunkTask extends RecursiveTask<ExpenseAccumulator> {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long estimatedRows;
+        private final boolean includeArchive;
+
+        ChunkTask(LocalDateTime from, LocalDateTime to, long estimatedRows, boolean includeArchive) {
+            this.from = from;
+            this.to = to;
+            this.estimatedRows = estimatedRows;
+            this.includeArchive = includeArchive;
+        }
+
+        @Override
+        protected ExpenseAccumulator compute() {
+            Duration span = Duration.between(from, to);
+            if (estimatedRows <= chunkRows || span.toMinutes() < 2) {
+                return scan(from, to, includeArchive);
+            }
+            // 행이 기간에 고르게 분포한다고 보고 반으로 나눈다
+            LocalDateTime mid = from.plus(span.dividedBy(2));
+            ChunkTask left = new ChunkTask(from, mid, estimatedRows / 2, includeArchive);
+            ChunkTask right = new ChunkTask(mid, to, estimatedRows - estimatedRows / 2, includeArchive);
+            left.fork();
+            ExpenseAccumulator result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package com.savepet;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연이 있으면 안 되는 조회 (읽은 값을 캐시하거나, 없으면 만드는 경우)
+ * 읽기 전용 트랜잭션 안에서 불리면 쓰기 데이터소스를 쓰는 별도 트랜잭션에서 실행한다.
+ * 이미 읽기 커넥션을 잡은 트랜잭션은 커넥션을 바꿀 수 없으므로 새 트랜잭션이 필요하다.
+ */
+@Component
+public class PrimaryRead {
+
+    private final TransactionTemplate separate;
+
+    public PrimaryRead(PlatformTransactionManager transactionManager) {
+        this.separate = new TransactionTemplate(transactionManager);
+        this.separate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T get(Supplier<T> read) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return read.get();
+        }
+        return separate.execute(status -> read.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Character 의 진행 카운터를 원본 테이블(미션, 경험치 원장)과 비교하고 필요하면 다시 계산해 저장
+ * 기동 시 한 번 복구 모드로 실행해, 컬럼이 새로 추가된 기존 DB 의 빈 값도 채운다.
+ */
+@Service
+public class ProgressionConsistencyChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressionConsistencyChecker.class);
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private ExperienceEventRepository experienceEventRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void repairOnStartup() {
+        ConsistencyReport report = check(true);
+        if (!report.getMismatches().isEmpty()) {
+            log.warn("진행 카운터 불일치 {}건 복구: {}", report.getMismatches().size(), report.getMismatches());
+        }
+    }
+
+    @Transactional
+    public ConsistencyReport check(boolean repair) {
+        long completed = missionRepository.countByCompletedTrue();
+        List<String> mismatches = new ArrayList<>();
+        List<Character> characters = characterRepository.findAll();
+
+        for (Character character : characters) {
+            int expectedCompleted = (int) completed;
+            int expectedStage = (int) missionRepository.countByStageAndCompletedTrue(character.getStage());
+            LocalDateTime lastWeekly = experienceEventRepository.findLastCreatedAt(character.getId(), "weekly");
+            LocalDate expectedWeekly = lastWeekly != null ? lastWeekly.toLocalDate() : null;
+            LocalDateTime lastDaily = experienceEventRepository.findLastCreatedAt(character.getId(), "daily");
+            LocalDate expectedDaily = lastDaily != null ? lastDaily.toLocalDate() : null;
+            LocalDateTime lastAchievement = experienceEventRepository.findLastCreatedAt(character.getId(), "achievement");
+            LocalDate expectedAchievement = lastAchievement != null ? lastAchievement.toLocalDate() : null;
+
+            // 복구 모드에서만 값을 고친다 (관리 상태 엔티티이므로 커밋 시 반영)
+            if (!Objects.equals(character.getCompletedMissions(), expectedCompleted)) {
+                mismatches.add(describe(character, "completedMissions", character.getCompletedMissions(), expectedCompleted));
+                if (repair) character.setCompletedMissions(expectedCompleted);
+            }
+            if (!Objects.equals(character.getStageMissionsCompleted(), expectedStage)) {
+                mismatches.add(describe(character, "stageMissionsCompleted", character.getStageMissionsCompleted(), expectedStage));
+                if (repair) character.setStageMissionsCompleted(expectedStage);
+            }
+            if (!Objects.equals(character.getLastWeeklySettlement(), expectedWeekly)) {
+                mismatches.add(describe(character, "lastWeeklySettlement", character.getLastWeeklySettlement(), expectedWeekly));
+                if (repair) character.setLastWeeklySettlement(expectedWeekly);
+            }
+            if (!Objects.equals(character.getLastDailySettlement(), expectedDaily)) {
+                mismatches.add(describe(character, "lastDailySettlement", character.getLastDailySettlement(), expectedDaily));
+                if (repair) character.setLastDailySettlement(expectedDaily);
+            }
+            if (!Objects.equals(character.getLastAchievementSettlement(), expectedAchievement)) {
+                mismatches.add(describe(character, "lastAchievementSettlement", character.getLastAchievementSettlement(), expectedAchievement));
+                if (repair) character.setLastAchievementSettlement(expectedAchievement);
+            }
+        }
+        return new ConsistencyReport(characters.size(), mismatches, repair);
+    }
+
+    private static String describe(Character character, String field, Object actual, Object expected) {
+        return String.format("#%d %s: %s -> %s", character.getId(), field, actual, expected);
+    }
+
+    public static class ConsistencyReport {
+        private Integer checked;
+        private List<String> mismatches;
+        private Boolean repaired;
+
+        public ConsistencyReport(Integer checked, List<String> mismatches, Boolean repaired) {
+            this.checked = checked;
+            this.mismatches = mismatches;
+            this.repaired = repaired;
+        }
+
+        public Integer getChecked() { return checked; }
+        public List<String> getMismatches() { return mismatches; }
+        public Boolean getRepaired() { return repaired; }
+    }
+}
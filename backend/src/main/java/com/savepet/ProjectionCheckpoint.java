@@ -0,0 +1,33 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 투영별로 마지막으로 처리한 아웃박스 이벤트 id
+ */
+@Entity
+public class ProjectionCheckpoint {
+    @Id
+    private String projection;
+
+    private Long lastEventId = 0L;
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public ProjectionCheckpoint() {}
+
+    public ProjectionCheckpoint(String projection, Long lastEventId) {
+        this.projection = projection;
+        this.lastEventId = lastEventId;
+    }
+
+    public String getProjection() { return projection; }
+    public Long getLastEventId() { return lastEventId; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public void advanceTo(Long lastEventId) {
+        this.lastEventId = lastEventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,258 @@
+package com.savepet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL 분위수 스케치
+ * 레벨 h 의 값 하나는 원본 2^h 개를 대표한다. 레벨이 용량을 넘으면 정렬한 뒤 하나 걸러 하나만 위 레벨로 올려(압축)
+ * 전체 크기를 약 3k 개로 유지한다. 순위 오차는 대략 1.7/k 이며, 같은 k 의 스케치끼리 merge 할 수 있다.
+ */
+public class QuantileSketch {
+
+    private final int k;
+    private final List<double[]> levels = new ArrayList<>();
+    private final List<Integer> sizes = new ArrayList<>();
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public QuantileSketch(int k) {
+        this.k = k;
+        addLevel();
+    }
+
+    public synchronized void update(double value) {
+        append(0, value);
+        count++;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+        compress();
+    }
+
+    /**
+     * 다른 스케치를 합친다 (k 가 같아야 함)
+     */
+    public void merge(QuantileSketch other) {
+        // 상대 잠금을 잡은 채로 내 잠금을 기다리지 않도록 먼저 복사
+        QuantileSketch copy = other.copy();
+        synchronized (this) {
+            mergeCopy(copy);
+        }
+    }
+
+    private void mergeCopy(QuantileSketch copy) {
+        while (levels.size() < copy.levels.size()) {
+            addLevel();
+        }
+        for (int level = 0; level < copy.levels.size(); level++) {
+            double[] items = copy.levels.get(level);
+            for (int i = 0; i < copy.sizes.get(level); i++) {
+                append(level, items[i]);
+            }
+        }
+        count += copy.count;
+        if (!Double.isNaN(copy.min)) {
+            min = Double.isNaN(min) ? copy.min : Math.min(min, copy.min);
+            max = Double.isNaN(max) ? copy.max : Math.max(max, copy.max);
+        }
+        compress();
+    }
+
+    /**
+     * value 이하인 값의 비율 (0~1). 비어 있으면 NaN
+     */
+    public synchronized double rank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long below = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            for (int i = 0; i < sizes.get(level); i++) {
+                if (items[i] <= value) {
+                    below += 1L << level;
+                }
+            }
+        }
+        return Math.min(1.0, (double) below / count);
+    }
+
+    /**
+     * q 분위수 (0~1). 비어 있으면 NaN
+     */
+    public synchronized double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        int retained = retained();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int n = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            for (int i = 0; i < sizes.get(level); i++) {
+                values[n] = items[i];
+                weights[n] = 1L << level;
+                order[n] = n;
+                n++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        long target = (long) Math.ceil(q * count);
+        long cumulative = 0;
+        for (Integer index : order) {
+            cumulative += weights[index];
+            if (cumulative >= target) {
+                return values[index];
+            }
+        }
+        return max;
+    }
+
+    public synchronized long getCount() { return count; }
+    public synchronized double getMin() { return min; }
+    public synchronized double getMax() { return max; }
+
+    /**
+     * 저장용 텍스트 (첫 줄 "k\tcount\tmin\tmax", 이후 레벨마다 한 줄에 공백으로 구분한 값)
+     */
+    public synchronized String serialize() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(k).append('\t').append(count).append('\t').append(min).append('\t').append(max).append('\n');
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            for (int i = 0; i < sizes.get(level); i++) {
+                if (i > 0) {
+                    sb.append(' ');
+                }
+                sb.append(items[i]);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static QuantileSketch deserialize(int k, String text) {
+        QuantileSketch sketch = new QuantileSketch(k);
+        if (text == null || text.isBlank()) {
+            return sketch;
+        }
+        String[] lines = text.split("\n");
+        String[] header = lines[0].split("\t");
+        if (header.length != 4 || Integer.parseInt(header[0]) != k) {
+            // 다른 k 로 저장된 스케치는 버리고 원본에서 다시 만든다
+            return null;
+        }
+        sketch.count = Long.parseLong(header[1]);
+        sketch.min = Double.parseDouble(header[2]);
+        sketch.max = Double.parseDouble(header[3]);
+        for (int level = 0; level + 1 < lines.length; level++) {
+            if (level >= sketch.levels.size()) {
+                sketch.addLevel();
+            }
+            String line = lines[level + 1];
+            if (line.isEmpty()) {
+                continue;
+            }
+            for (String item : line.split(" ")) {
+                sketch.append(level, Double.parseDouble(item));
+            }
+        }
+        return sketch;
+    }
+
+    private synchronized QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(k);
+        for (int level = 0; level < levels.size(); level++) {
+            if (level >= copy.levels.size()) {
+                copy.addLevel();
+            }
+            copy.levels.set(level, Arrays.copyOf(levels.get(level), levels.get(level).length));
+            copy.sizes.set(level, sizes.get(level));
+        }
+        copy.count = count;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    private void addLevel() {
+        levels.add(new double[8]);
+        sizes.add(0);
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels.get(level);
+        int size = sizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            levels.set(level, items);
+        }
+        items[size] = value;
+        sizes.set(level, size + 1);
+    }
+
+    private int retained() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * 아래 레벨일수록 용량이 (2/3)^깊이 비율로 줄어든다 (최소 2)
+     */
+    private int capacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(2, (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+    }
+
+    private int maxRetained() {
+        int total = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            total += capacity(level);
+        }
+        return total;
+    }
+
+    private void compress() {
+        while (retained() >= maxRetained()) {
+            for (int level = 0; level < levels.size(); level++) {
+                if (sizes.get(level) >= capacity(level)) {
+                    compact(level);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 레벨을 정렬한 뒤 무작위 짝(홀/짝 위치)만 위 레벨로 올린다. 홀수 개면 하나는 그 레벨에 남긴다.
+     */
+    private void compact(int level) {
+        if (level + 1 >= levels.size()) {
+            addLevel();
+        }
+        double[] items = levels.get(level);
+        int size = sizes.get(level);
+        Arrays.sort(items, 0, size);
+        int leftover = size % 2;
+        int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+        for (int i = leftover + offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        sizes.set(level, leftover);
+    }
+}
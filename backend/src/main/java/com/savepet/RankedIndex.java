@@ -0,0 +1,204 @@
+package com.savepet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (order-statistic skip list)
+ * 각 링크가 건너뛰는 원소 수(span)를 함께 저장해 삽입/삭제/순위/순위 구간 시작점 탐색이 모두 O(log N) 이다.
+ * 읽기는 공유 락, 쓰기는 배타 락으로 보호한다.
+ */
+public class RankedIndex<T> {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double P = 0.25;
+
+    private final Comparator<T> comparator;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    public RankedIndex(Comparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public void insert(T value) {
+        lock.writeLock().lock();
+        try {
+            Node<T>[] update = Node.array(MAX_LEVEL);
+            int[] rank = new int[MAX_LEVEL];
+            Node<T> x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                rank[i] = i == level - 1 ? 0 : rank[i + 1];
+                while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                    rank[i] += x.span[i];
+                    x = x.next[i];
+                }
+                update[i] = x;
+            }
+
+            int newLevel = randomLevel();
+            if (newLevel > level) {
+                for (int i = level; i < newLevel; i++) {
+                    rank[i] = 0;
+                    update[i] = head;
+                    head.span[i] = size;
+                }
+                level = newLevel;
+            }
+
+            Node<T> node = new Node<>(value, newLevel);
+            for (int i = 0; i < newLevel; i++) {
+                node.next[i] = update[i].next[i];
+                update[i].next[i] = node;
+                node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+                update[i].span[i] = rank[0] - rank[i] + 1;
+            }
+            for (int i = newLevel; i < level; i++) {
+                update[i].span[i]++;
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(T value) {
+        lock.writeLock().lock();
+        try {
+            Node<T>[] update = Node.array(MAX_LEVEL);
+            Node<T> x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                    x = x.next[i];
+                }
+                update[i] = x;
+            }
+            Node<T> target = x.next[0];
+            if (target == null || comparator.compare(target.value, value) != 0) {
+                return false;
+            }
+            for (int i = 0; i < level; i++) {
+                if (update[i].next[i] == target) {
+                    update[i].span[i] += target.span[i] - 1;
+                    update[i].next[i] = target.next[i];
+                } else {
+                    update[i].span[i]--;
+                }
+            }
+            while (level > 1 && head.next[level - 1] == null) {
+                level--;
+            }
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 1부터 시작하는 순위, 없으면 0
+     */
+    public int rankOf(T value) {
+        lock.readLock().lock();
+        try {
+            Node<T> x = head;
+            int rank = 0;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && comparator.compare(x.next[i].value, value) <= 0) {
+                    rank += x.span[i];
+                    x = x.next[i];
+                }
+                if (x != head && comparator.compare(x.value, value) == 0) {
+                    return rank;
+                }
+            }
+            return 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * fromRank(1부터) 부터 최대 limit 개
+     */
+    public List<T> range(int fromRank, int limit) {
+        lock.readLock().lock();
+        try {
+            List<T> result = new ArrayList<>();
+            if (fromRank < 1 || fromRank > size || limit <= 0) {
+                return result;
+            }
+            Node<T> x = head;
+            int traversed = 0;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && traversed + x.span[i] <= fromRank) {
+                    traversed += x.span[i];
+                    x = x.next[i];
+                }
+                if (traversed == fromRank) {
+                    break;
+                }
+            }
+            while (x != null && result.size() < limit) {
+                result.add(x.value);
+                x = x.next[0];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            level = 1;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int randomLevel() {
+        int level = 1;
+        while (level < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < P) {
+            level++;
+        }
+        return level;
+    }
+
+    private static class Node<T> {
+        final T value;
+        final Node<T>[] next;
+        final int[] span;
+
+        Node(T value, int level) {
+            this.value = value;
+            this.next = array(level);
+            this.span = new int[level];
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T>[] array(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.savepet;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기/체크 API 요청 제한
+ * 클라이언트(IP)별 토큰 버킷과 엔드포인트별 동시 처리 한도를 적용하고, 초과 시 429 + Retry-After 로 응답한다.
+ * 엔드포인트는 요청 URI 가 아니라 매칭된 핸들러 패턴으로 구분한다 (";x=1", "%74" 같은 변형도 같은 한도를 받고, 키 수가 패턴 수로 묶인다).
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitInterceptor.class);
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+    private static final String EXPERIENCE_ENDPOINT = "/api/character/add-experience";
+    private static final String UNMATCHED = "unmatched";
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    // 키가 핸들러 패턴이라 등록된 엔드포인트 수 이상 늘지 않으므로 따로 정리하지 않는다
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${savepet.rate-limit.write.per-second:5}")
+    private double writePerSecond;
+
+    @Value("${savepet.rate-limit.write.burst:10}")
+    private int writeBurst;
+
+    @Value("${savepet.rate-limit.experience.per-second:0.2}")
+    private double experiencePerSecond;
+
+    @Value("${savepet.rate-limit.experience.burst:3}")
+    private int experienceBurst;
+
+    @Value("${savepet.rate-limit.in-flight:16}")
+    private int maxInFlight;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답의 재디스패치는 처음 디스패치에서 이미 허용/허가를 받았다
+        if (!"POST".equals(request.getMethod()) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String endpoint = endpoint(request);
+        boolean experience = EXPERIENCE_ENDPOINT.equals(endpoint);
+
+        TokenBucket bucket = buckets.computeIfAbsent(clientKey(request) + "|" + endpoint, k -> experience
+            ? new TokenBucket(experiencePerSecond, experienceBurst)
+            : new TokenBucket(writePerSecond, writeBurst));
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos > 0) {
+            reject(response, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+            log.debug("요청 제한 초과: {} {}", clientKey(request), endpoint);
+            return false;
+        }
+
+        Semaphore permits = inFlight.computeIfAbsent(endpoint, k -> new Semaphore(maxInFlight));
+        if (!permits.tryAcquire()) {
+            reject(response, 1);
+            log.debug("동시 처리 한도 초과: {}", endpoint);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permits);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permits = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permits instanceof Semaphore) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((Semaphore) permits).release();
+        }
+    }
+
+    /**
+     * 한동안 쓰이지 않은 버킷 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        long threshold = System.nanoTime() - TimeUnit.MINUTES.toNanos(10);
+        buckets.values().removeIf(bucket -> bucket.isIdleSince(threshold));
+    }
+
+    /**
+     * 핸들러 매핑이 고른 패턴 (예: /api/character/add-experience). 패턴이 없는 요청(정적 자원, 404)은 한 키로 모은다
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED;
+    }
+
+    /**
+     * 클라이언트가 보낸 X-Forwarded-For 는 믿지 않는다 (바꿔 가며 보내면 제한을 피하고 버킷이 무한히 늘어난다).
+     * 프록시 뒤에서는 server.forward-headers-strategy 로 신뢰하는 프록시의 헤더만 remoteAddr 에 반영한다.
+     */
+    private String clientKey(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+}
@@ -0,0 +1,29 @@
+package com.savepet;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 서비스 코드가 시작한 @Transactional(readOnly = true) 트랜잭션은 읽기 데이터소스로, 나머지는 쓰기 데이터소스로 보낸다.
+ * 서비스 트랜잭션 밖의 리포지토리 호출도 SimpleJpaRepository 의 클래스 수준 readOnly 트랜잭션이 되지만,
+ * 이런 조회는 쓰기 직후 다시 읽는 경우가 많으므로(캐시 다시 채우기, 없으면 만들기) 쓰기 데이터소스로 보낸다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 바인딩되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 쿼리 시점에 커넥션을 고르게 해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String WRITE = "write";
+    public static final String READ = "read";
+
+    // 리포지토리 프록시가 스스로 연 트랜잭션의 이름 (SimpleJpaRepository.findById 등)
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return WRITE;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && name.startsWith(REPOSITORY_TRANSACTION_PREFIX) ? WRITE : READ;
+    }
+}
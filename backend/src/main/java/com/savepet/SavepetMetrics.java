@@ -0,0 +1,42 @@
+package com.savepet;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 카운터 모음 (경험치, 진화, 미션 완료)
+ */
+@Component
+public class SavepetMetrics {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    public void experienceGranted(String source, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder("savepet.character.experience.granted")
+            .tag("source", source)
+            .register(registry)
+            .increment(amount);
+    }
+
+    public void evolved(String fromStage, String toStage) {
+        Counter.builder("savepet.character.evolutions")
+            .tag("from", fromStage)
+            .tag("to", toStage)
+            .register(registry)
+            .increment();
+    }
+
+    public void missionCompleted(String stage, String missionType) {
+        Counter.builder("savepet.mission.completions")
+            .tag("stage", stage)
+            .tag("type", missionType)
+            .register(registry)
+            .increment();
+    }
+}
@@ -0,0 +1,158 @@
+package com.savepet;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 읽기 요청 병합 (single-flight)
+ * 같은 키 + 같은 데이터 버전의 요청이 동시에 들어오면 계산은 한 번만 수행하고 결과를 공유한다.
+ * 마감 시간 안에 계산이 끝나지 않거나 계산 풀의 대기열이 가득 차면, 같은 데이터 버전에서 마지막으로 성공한 값을 대신 반환한다.
+ * 그런 값이 없으면 max-wait 까지만 기다리고, 그래도 안 되면 503 으로 거절한다.
+ */
+@Component
+public class SingleFlight {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Versioned> lastGood = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Value("${savepet.single-flight.deadline-ms:2000}")
+    private long deadlineMs;
+
+    @Value("${savepet.single-flight.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    public SingleFlight(@Value("${savepet.single-flight.threads:4}") int threads,
+                        @Value("${savepet.single-flight.queue-capacity:64}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "single-flight-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> computation) {
+        long version = dataVersion.current();
+        String versionedKey = key + "@" + version;
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(versionedKey, created);
+        CompletableFuture<Object> future = existing != null ? existing : created;
+
+        if (existing == null) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        Object value = computation.get();
+                        lastGood.merge(key, new Versioned(version, value), (old, fresh) -> old.version > fresh.version ? old : fresh);
+                        created.complete(value);
+                    } catch (Throwable e) {
+                        created.completeExceptionally(e);
+                    } finally {
+                        inFlight.remove(versionedKey, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(versionedKey, created);
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return (T) future.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Object fallback = fallback(key, version);
+            if (fallback != null) {
+                log.warn("{} 계산이 {}ms 를 넘어 마지막 결과로 응답", key, deadlineMs);
+                return (T) fallback;
+            }
+            return (T) await(key, future);
+        } catch (ExecutionException e) {
+            return (T) failed(key, version, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 대체할 값이 없을 때 마감 시간 이후로 max-wait 까지만 더 기다린다
+     */
+    private Object await(String key, CompletableFuture<Object> future) {
+        try {
+            return future.get(Math.max(0, maxWaitMs - deadlineMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("{} 계산이 {}ms 안에 끝나지 않아 거절", key, maxWaitMs);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, key + " 계산이 지연되고 있습니다");
+        } catch (ExecutionException e) {
+            return failed(key, dataVersion.current(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object failed(String key, long version, Throwable cause) {
+        if (cause instanceof RejectedExecutionException) {
+            Object fallback = fallback(key, version);
+            if (fallback != null) {
+                log.warn("{} 계산 대기열이 가득 차 마지막 결과로 응답", key);
+                return fallback;
+            }
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 " + key + " 계산을 받을 수 없습니다");
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * 요청 시점의 데이터 버전 이후에 계산된 값만 대신 쓸 수 있다 (쓰기 이전 결과는 돌려주지 않는다)
+     */
+    private Object fallback(String key, long version) {
+        Versioned last = lastGood.get(key);
+        return last != null && last.version >= version ? last.value : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class Versioned {
+        final long version;
+        final Object value;
+
+        Versioned(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메모리 상태(스케치)를 주기적으로 테이블에 저장하고, 기동 시 저장본에서 이어 받는 투영
+ * 저장 행마다 저장본이 반영한 마지막 아웃박스 이벤트 id 를 함께 기록하고, 기동하면 체크포인트를 그 위치로 옮겨 다음 이벤트부터 받는다.
+ * 저장본이 없으면 원본 테이블을 한 번 훑어 만든다.
+ * 거래 초기화는 초기화 트랜잭션 안에서 저장본을 지우고(deleteSaved), 커밋 후 초기화 이벤트를 받을 때 메모리를 비운다.
+ */
+public abstract class SnapshotProjection implements OutboxProjection {
+
+    @Autowired
+    protected Outbox outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 마지막 재구성 스캔에 반영된 아웃박스 이벤트 위치
+    private volatile long scannedThrough;
+
+    // 메모리 상태에 반영된 마지막 이벤트 위치 (-1 이면 아직 load() 전)
+    private volatile long appliedThrough = -1L;
+
+    // 저장본이 반영한 위치 (-1 이면 저장본이 없어 다음 기동은 원본을 다시 훑는다)
+    private volatile long savedThrough = -1L;
+
+    // 마지막 resetProjection() 이 저장본을 읽었는지
+    private volatile boolean restored;
+
+    // 초기화 트랜잭션이 저장본을 지운 뒤 초기화 이벤트가 메모리를 비울 때까지는 저장하지 않는다
+    private volatile boolean resetPending;
+
+    @Override
+    public boolean isRebuiltFromSource() {
+        return true;
+    }
+
+    @Override
+    public boolean isRestoredFromSnapshot() {
+        return restored;
+    }
+
+    @Override
+    public long getSavedThrough() {
+        return savedThrough;
+    }
+
+    /**
+     * 기동 시에는 저장본을 읽고, 이미 로드된 상태에서 재생하면 저장본을 지우고 원본 테이블에서 다시 만든다
+     */
+    @Override
+    public void resetProjection() {
+        if (hasState()) {
+            clear();
+        }
+        load();
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        // 재구성 스캔에 이미 반영된 이벤트는 건너뛴다
+        if (event.getId() > scannedThrough) {
+            switch (event.getEventType()) {
+                case OutboxEvent.TRANSACTION_CREATED:
+                    onTransactionCreated(outbox.readTransaction(event));
+                    break;
+                case OutboxEvent.TRANSACTIONS_RESET:
+                    clearState();
+                    resetPending = false;
+                    savedThrough = -1L;
+                    break;
+                default:
+                    break;
+            }
+        }
+        appliedThrough = event.getId();
+    }
+
+    public abstract void onTransactionCreated(Transaction transaction);
+
+    protected void load() {
+        long covered = loadSaved();
+        if (covered >= 0) {
+            restored = true;
+            savedThrough = covered;
+            appliedThrough = covered;
+            scannedThrough = covered;
+            return;
+        }
+        restored = false;
+        savedThrough = -1L;
+        long before = outbox.lastEventId();
+        scanSource();
+        scannedThrough = outbox.scannedThrough(before);
+        appliedThrough = scannedThrough;
+    }
+
+    protected void clear() {
+        clearState();
+        deleteSavedRows();
+        savedThrough = -1L;
+    }
+
+    /**
+     * 거래 초기화 트랜잭션 안에서 저장본을 지운다. 메모리 상태는 커밋 후 초기화 이벤트를 받을 때 비운다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteSaved() {
+        deleteSavedRows();
+        resetPending = true;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    resetPending = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * 바뀐 상태를 저장하고 모든 저장 행의 반영 위치를 올린다.
+     * 위치를 상태보다 먼저 읽어야, 기록되는 위치까지의 이벤트가 저장본에 모두 들어 있다 (그 뒤 이벤트는 다음 기동에 다시 받는다).
+     */
+    protected void persistSnapshot() {
+        long covered = appliedThrough;
+        if (resetPending || covered < 0 || (covered == savedThrough && !isDirty())) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> saveState(covered));
+        savedThrough = covered;
+    }
+
+    protected abstract boolean hasState();
+
+    protected abstract void clearState();
+
+    protected abstract boolean isDirty();
+
+    /**
+     * 저장본을 메모리로 읽고 저장본이 반영한 위치를 돌려준다. 저장본이 없거나 쓸 수 없으면 -1
+     */
+    protected abstract long loadSaved();
+
+    protected abstract void scanSource();
+
+    /**
+     * 바뀐 상태를 저장하고 모든 행의 반영 위치를 covered 로 올린다 (한 트랜잭션 안에서 호출된다)
+     */
+    protected abstract void saveState(long covered);
+
+    protected abstract void deleteSavedRows();
+}
@@ -0,0 +1,101 @@
+package com.savepet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving 상위 K 빈도 스케치
+ * 최대 capacity 개의 카운터만 유지하고, 가득 차면 가장 작은 카운터를 새 항목에 넘겨준다.
+ * 보고된 count 는 실제 빈도보다 크거나 같으며, 과대 추정 폭은 error 이하다.
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> byCount = new TreeSet<>(
+        Comparator.comparingLong((Entry e) -> e.count).thenComparing(e -> e.key));
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            byCount.remove(entry);
+            entry.count++;
+            byCount.add(entry);
+            return;
+        }
+        if (entries.size() < capacity) {
+            entry = new Entry(key, 1, 0);
+        } else {
+            Entry min = byCount.pollFirst();
+            entries.remove(min.key);
+            entry = new Entry(key, min.count + 1, min.count);
+        }
+        entries.put(key, entry);
+        byCount.add(entry);
+    }
+
+    /**
+     * 빈도 상위 k 개 (O(k))
+     */
+    public synchronized List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, entries.size()));
+        for (Entry entry : byCount.descendingSet()) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(new Entry(entry.key, entry.count, entry.error));
+        }
+        return result;
+    }
+
+    /**
+     * 저장용 텍스트 (한 줄에 "count\terror\tkey", key 에는 탭/개행이 없어야 함)
+     */
+    public synchronized String serialize() {
+        StringBuilder sb = new StringBuilder();
+        for (Entry entry : byCount.descendingSet()) {
+            sb.append(entry.count).append('\t').append(entry.error).append('\t').append(entry.key).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static SpaceSaving deserialize(int capacity, String text) {
+        SpaceSaving sketch = new SpaceSaving(capacity);
+        if (text == null) {
+            return sketch;
+        }
+        for (String line : text.split("\n")) {
+            String[] parts = line.split("\t", 3);
+            if (parts.length == 3 && sketch.entries.size() < capacity) {
+                Entry entry = new Entry(parts[2], Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+                sketch.entries.put(entry.key, entry);
+                sketch.byCount.add(entry);
+            }
+        }
+        return sketch;
+    }
+
+    public static class Entry {
+        private String key;
+        private long count;
+        private long error;
+
+        public Entry(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getKey() { return key; }
+        public long getCount() { return count; }
+        public long getError() { return error; }
+    }
+}
@@ -0,0 +1,336 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간 지출 예측기
+ * 요일 x 카테고리별 일 지출의 지수가중 평균/분산(EWMA)을 유지한다.
+ * 지출 거래가 들어오면 오늘 합계에만 더하고(O(1)), 날짜가 바뀔 때 지난 날의 합계를 해당 요일 EWMA 에 반영한다.
+ * 주가 끝날 때마다 월요일 시점의 예측과 실제 주간 지출을 비교해 오차를 누적한다 (기동 시 과거 이력으로 백테스트).
+ * 과거 날짜로 소급 입력/삭제된 거래와 미래 날짜 거래는 반영하지 않는다.
+ */
+@Component
+public class SpendForecaster implements OutboxProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(SpendForecaster.class);
+
+    private static final List<String> CATEGORIES = TransactionCategories.ALL;
+
+    @Value("${savepet.forecast.alpha:0.3}")
+    private double alpha;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Outbox outbox;
+
+    private final double[][] mean = new double[7][CATEGORIES.size()];
+    private final double[] totalMean = new double[7];
+    private final double[] totalVariance = new double[7];
+    private final int[] observations = new int[7];
+
+    private LocalDate currentDate;
+    private final double[] currentDay = new double[CATEGORIES.size()];
+    private double weekSpentBeforeToday;
+
+    // 이번 주 월요일 시점의 예측 (주 마감 시 백테스트에 사용)
+    private double weekStartForecast = Double.NaN;
+    private int backtestWeeks;
+    private double absoluteErrorSum;
+    private double percentageErrorSum;
+    private int percentageWeeks;
+    private double errorSum;
+
+    // 마지막 재구성 스캔에 반영된 아웃박스 이벤트 위치
+    private volatile long scannedThrough;
+
+    public synchronized void rebuild() {
+        reset();
+        long before = outbox.lastEventId();
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(1000);
+        RowCallbackHandler handler = rs -> {
+            BigDecimal amount = rs.getBigDecimal(2);
+            if (amount != null) {
+                record(rs.getTimestamp(3).toLocalDateTime().toLocalDate(), rs.getString(1), amount.doubleValue());
+            }
+        };
+        cursor.query("SELECT description, amount, created_at FROM transaction WHERE type = 'expense' AND created_at < ? ORDER BY created_at",
+            handler, Timestamp.valueOf(LocalDate.now().plusDays(1).atStartOfDay()));
+        scannedThrough = outbox.scannedThrough(before);
+        rollTo(LocalDate.now());
+        log.info("지출 예측 백테스트: {}주, MAE={}", backtestWeeks, backtestWeeks > 0 ? absoluteErrorSum / backtestWeeks : 0);
+    }
+
+    @Override
+    public String getProjectionName() {
+        return "spend-forecast";
+    }
+
+    @Override
+    public boolean isRebuiltFromSource() {
+        return true;
+    }
+
+    @Override
+    public void resetProjection() {
+        rebuild();
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        if (event.getId() <= scannedThrough) {
+            return; // 재구성 스캔에 이미 반영된 이벤트
+        }
+        switch (event.getEventType()) {
+            case OutboxEvent.TRANSACTION_CREATED:
+                onTransactionCreated(outbox.readTransaction(event));
+                break;
+            case OutboxEvent.TRANSACTIONS_RESET:
+                clear();
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized void onTransactionCreated(Transaction transaction) {
+        // 금액이 없는 거래는 건너뛴다 (AmountDistributionService 와 같이)
+        if ("expense".equals(transaction.getType()) && transaction.getCreatedAt() != null && transaction.getAmount() != null) {
+            record(transaction.getCreatedAt().toLocalDate(), transaction.getDescription(), transaction.getAmount().doubleValue());
+        }
+    }
+
+    public synchronized void clear() {
+        reset();
+        rollTo(LocalDate.now());
+    }
+
+    /**
+     * 이번 주 예상 총 지출과 예산 내 달성 확률
+     */
+    public synchronized SpendForecast forecast(BigDecimal weeklyTarget) {
+        LocalDate today = LocalDate.now();
+        rollTo(today);
+
+        int todayIndex = today.getDayOfWeek().getValue() - 1;
+        double todaySpent = sum(currentDay);
+        double spent = weekSpentBeforeToday + todaySpent;
+
+        Map<String, BigDecimal> byCategory = new LinkedHashMap<>();
+        double projected = spent;
+        double variance = 0;
+        for (int c = 0; c < CATEGORIES.size(); c++) {
+            double remaining = Math.max(0, mean[todayIndex][c] - currentDay[c]);
+            for (int d = todayIndex + 1; d < 7; d++) {
+                remaining += mean[d][c];
+            }
+            byCategory.put(CATEGORIES.get(c), money(remaining));
+        }
+        projected += Math.max(0, totalMean[todayIndex] - todaySpent);
+        variance += todaySpent < totalMean[todayIndex] ? totalVariance[todayIndex] : 0;
+        for (int d = todayIndex + 1; d < 7; d++) {
+            projected += totalMean[d];
+            variance += totalVariance[d];
+        }
+
+        double target = weeklyTarget.doubleValue();
+        double probability;
+        if (variance <= 0) {
+            probability = projected <= target ? 1.0 : 0.0;
+        } else {
+            probability = normalCdf((target - projected) / Math.sqrt(variance));
+        }
+
+        return new SpendForecast(money(spent), money(projected), byCategory,
+            BigDecimal.valueOf(probability).setScale(3, RoundingMode.HALF_UP),
+            projected <= target, backtest());
+    }
+
+    private void record(LocalDate date, String description, double amount) {
+        if (date.isAfter(LocalDate.now())) {
+            return; // 미래 날짜 거래로 오늘을 넘겨 굴리면 이후 입력이 모두 지난 날짜로 버려진다
+        }
+        if (currentDate == null) {
+            currentDate = date;
+        }
+        if (date.isBefore(currentDate)) {
+            return; // 이미 반영된 날짜
+        }
+        rollTo(date);
+        currentDay[CATEGORIES.indexOf(TransactionCategories.categorize(description))] += amount;
+    }
+
+    /**
+     * currentDate 부터 date 전날까지의 일 합계를 EWMA 에 반영
+     */
+    private void rollTo(LocalDate date) {
+        if (currentDate == null) {
+            currentDate = date;
+            weekStartForecast = weekForecastFromMonday();
+            return;
+        }
+        while (currentDate.isBefore(date)) {
+            closeDay(currentDate);
+            currentDate = currentDate.plusDays(1);
+            if (currentDate.getDayOfWeek() == DayOfWeek.MONDAY) {
+                weekSpentBeforeToday = 0;
+                weekStartForecast = weekForecastFromMonday();
+            }
+        }
+    }
+
+    private void closeDay(LocalDate date) {
+        int d = date.getDayOfWeek().getValue() - 1;
+        double total = sum(currentDay);
+        for (int c = 0; c < currentDay.length; c++) {
+            mean[d][c] = observations[d] == 0 ? currentDay[c] : mean[d][c] + alpha * (currentDay[c] - mean[d][c]);
+        }
+        if (observations[d] == 0) {
+            totalMean[d] = total;
+        } else {
+            double diff = total - totalMean[d];
+            double increment = alpha * diff;
+            totalMean[d] += increment;
+            totalVariance[d] = (1 - alpha) * (totalVariance[d] + diff * increment);
+        }
+        observations[d]++;
+        weekSpentBeforeToday += total;
+        Arrays.fill(currentDay, 0);
+
+        if (date.getDayOfWeek() == DayOfWeek.SUNDAY && !Double.isNaN(weekStartForecast)) {
+            double actual = weekSpentBeforeToday;
+            double error = weekStartForecast - actual;
+            backtestWeeks++;
+            absoluteErrorSum += Math.abs(error);
+            errorSum += error;
+            if (actual > 0) {
+                percentageErrorSum += Math.abs(error) / actual;
+                percentageWeeks++;
+            }
+        }
+    }
+
+    /**
+     * 모든 요일에 관측이 있을 때만 월요일 시점 예측을 만든다 (백테스트 대상)
+     */
+    private double weekForecastFromMonday() {
+        double total = 0;
+        for (int d = 0; d < 7; d++) {
+            if (observations[d] == 0) {
+                return Double.NaN;
+            }
+            total += totalMean[d];
+        }
+        return total;
+    }
+
+    private BacktestMetrics backtest() {
+        if (backtestWeeks == 0) {
+            return new BacktestMetrics(0, null, null, null);
+        }
+        return new BacktestMetrics(backtestWeeks,
+            money(absoluteErrorSum / backtestWeeks),
+            percentageWeeks > 0 ? BigDecimal.valueOf(percentageErrorSum / percentageWeeks).setScale(3, RoundingMode.HALF_UP) : null,
+            money(errorSum / backtestWeeks));
+    }
+
+    private void reset() {
+        for (double[] row : mean) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(totalMean, 0);
+        Arrays.fill(totalVariance, 0);
+        Arrays.fill(observations, 0);
+        Arrays.fill(currentDay, 0);
+        currentDate = null;
+        weekSpentBeforeToday = 0;
+        weekStartForecast = Double.NaN;
+        backtestWeeks = 0;
+        absoluteErrorSum = 0;
+        percentageErrorSum = 0;
+        percentageWeeks = 0;
+        errorSum = 0;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double v : values) {
+            total += v;
+        }
+        return total;
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    // 표준정규분포 누적분포 (Abramowitz-Stegun 7.1.26 근사)
+    private static double normalCdf(double z) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(z) / Math.sqrt(2));
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+            * Math.exp(-z * z / 2);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    public static class SpendForecast {
+        private BigDecimal spentSoFar;
+        private BigDecimal projectedWeekSpend;
+        private Map<String, BigDecimal> projectedRemainingByCategory;
+        private BigDecimal probabilityUnderBudget;
+        private Boolean onPace;
+        private BacktestMetrics backtest;
+
+        public SpendForecast(BigDecimal spentSoFar, BigDecimal projectedWeekSpend, Map<String, BigDecimal> projectedRemainingByCategory,
+                             BigDecimal probabilityUnderBudget, Boolean onPace, BacktestMetrics backtest) {
+            this.spentSoFar = spentSoFar;
+            this.projectedWeekSpend = projectedWeekSpend;
+            this.projectedRemainingByCategory = projectedRemainingByCategory;
+            this.probabilityUnderBudget = probabilityUnderBudget;
+            this.onPace = onPace;
+            this.backtest = backtest;
+        }
+
+        public BigDecimal getSpentSoFar() { return spentSoFar; }
+        public BigDecimal getProjectedWeekSpend() { return projectedWeekSpend; }
+        public Map<String, BigDecimal> getProjectedRemainingByCategory() { return projectedRemainingByCategory; }
+        public BigDecimal getProbabilityUnderBudget() { return probabilityUnderBudget; }
+        public Boolean getOnPace() { return onPace; }
+        public BacktestMetrics getBacktest() { return backtest; }
+    }
+
+    public static class BacktestMetrics {
+        private Integer weeks;
+        private BigDecimal meanAbsoluteError;
+        private BigDecimal meanAbsolutePercentageError;
+        private BigDecimal bias;
+
+        public BacktestMetrics(Integer weeks, BigDecimal meanAbsoluteError, BigDecimal meanAbsolutePercentageError, BigDecimal bias) {
+            this.weeks = weeks;
+            this.meanAbsoluteError = meanAbsoluteError;
+            this.meanAbsolutePercentageError = meanAbsolutePercentageError;
+            this.bias = bias;
+        }
+
+        public Integer getWeeks() { return weeks; }
+        public BigDecimal getMeanAbsoluteError() { return meanAbsoluteError; }
+        public BigDecimal getMeanAbsolutePercentageError() { return meanAbsolutePercentageError; }
+        public BigDecimal getBias() { return bias; }
+    }
+}
@@ -0,0 +1,44 @@
+package com.savepet;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * 다음 토큰이 "이론상 도착할 시각" 하나만 CAS 로 갱신하므로 요청마다 원자 연산 한 번으로 끝난다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong();
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.theoreticalArrival.set(System.nanoTime());
+    }
+
+    /**
+     * 토큰을 하나 소비. 성공하면 0, 실패하면 다시 시도할 수 있을 때까지 남은 나노초를 반환
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        lastUsedNanos = now;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isIdleSince(long nanos) {
+        return lastUsedNanos < nanos && theoreticalArrival.get() < nanos;
+    }
+}
@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_created_at", columnList = "createdAt"))
 public class Transaction {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,6 +16,13 @@ public class Transaction {
     private String type;
     private LocalDateTime createdAt = LocalDateTime.now();
     
+    // 저장 시 같은 카테고리 지출 분포 안에서의 순위 (0~1), 응답에만 실린다
+    @Transient
+    private Double anomalyScore;
+    
+    @Transient
+    private Boolean anomaly;
+    
     public Transaction() {}
     
     // Getters and Setters
@@ -32,4 +40,10 @@ public class Transaction {
     
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public Double getAnomalyScore() { return anomalyScore; }
+    public void setAnomalyScore(Double anomalyScore) { this.anomalyScore = anomalyScore; }
+    
+    public Boolean getAnomaly() { return anomaly; }
+    public void setAnomaly(Boolean anomaly) { this.anomaly = anomaly; }
 }
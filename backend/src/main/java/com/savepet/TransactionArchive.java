@@ -0,0 +1,51 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 거래. Transaction 테이블에서 옮겨온 원본 행을 그대로 보관한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_transaction_archive_created_at", columnList = "createdAt"))
+public class TransactionArchive {
+    @Id
+    private Long id;
+    
+    private String description;
+    private BigDecimal amount;
+    private String type;
+    private LocalDateTime createdAt;
+    private LocalDateTime archivedAt = LocalDateTime.now();
+    
+    public TransactionArchive() {}
+    
+    public TransactionArchive(Transaction transaction) {
+        this.id = transaction.getId();
+        this.description = transaction.getDescription();
+        this.amount = transaction.getAmount();
+        this.type = transaction.getType();
+        this.createdAt = transaction.getCreatedAt();
+    }
+    
+    /**
+     * 원본 거래로 복원 (영속화되지 않은 객체)
+     */
+    public Transaction toTransaction() {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setDescription(description);
+        transaction.setAmount(amount);
+        transaction.setType(type);
+        transaction.setCreatedAt(createdAt);
+        return transaction;
+    }
+    
+    public Long getId() { return id; }
+    public String getDescription() { return description; }
+    public BigDecimal getAmount() { return amount; }
+    public String getType() { return type; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,40 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransactionArchiveRepository extends JpaRepository<TransactionArchive, Long> {
+
+    @Query("SELECT a FROM TransactionArchive a WHERE a.createdAt >= :startDate AND a.createdAt < :endDate ORDER BY a.createdAt")
+    List<TransactionArchive> findByDateRange(@Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * [startDate, endDate) 기간의 거래를 보관 테이블로 복사 (INSERT ... SELECT 한 번)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO transaction_archive (id, description, amount, type, created_at, archived_at) " +
+                   "SELECT id, description, amount, type, created_at, LOCALTIMESTAMP FROM transaction " +
+                   "WHERE created_at >= :startDate AND created_at < :endDate", nativeQuery = true)
+    int copyFromTransactions(@Param("startDate") LocalDateTime startDate,
+                             @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT DISTINCT a.createdAt FROM TransactionArchive a WHERE a.id IN :ids")
+    List<LocalDateTime> findCreatedAtByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TransactionArchive a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TransactionArchive a WHERE a.createdAt >= :startDate AND a.createdAt < :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDateTime startDate,
+                          @Param("endDate") LocalDateTime endDate);
+}
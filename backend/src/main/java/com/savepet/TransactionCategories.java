@@ -0,0 +1,59 @@
+package com.savepet;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 설명으로 분석용 카테고리를 분류
+ */
+public final class TransactionCategories {
+
+    public static final List<String> ALL = List.of("커피/카페", "간식", "배달음식", "쇼핑", "교통", "기타");
+
+    private static final String OTHER = "기타";
+
+    // 위에서부터 먼저 맞는 키워드의 카테고리
+    private static final Map<String, List<String>> KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        KEYWORDS.put("커피/카페", List.of("커피", "카페", "스타벅스"));
+        KEYWORDS.put("간식", List.of("간식", "과자", "디저트"));
+        KEYWORDS.put("배달음식", List.of("배달", "주문", "치킨", "피자"));
+        KEYWORDS.put("쇼핑", List.of("쇼핑", "옷", "신발", "화장품"));
+        KEYWORDS.put("교통", List.of("버스", "지하철", "택시", "교통"));
+    }
+
+    private TransactionCategories() {}
+
+    public static String categorize(String description) {
+        String desc = description.toLowerCase();
+        
+        for (Map.Entry<String, List<String>> entry : KEYWORDS.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                if (desc.contains(keyword)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * categorize 와 같은 규칙의 SQL CASE 식 (GROUP BY 로 카테고리별 합계를 낼 때 사용)
+     */
+    public static String sqlCase(String column) {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (Map.Entry<String, List<String>> entry : KEYWORDS.entrySet()) {
+            sql.append(" WHEN ");
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                if (i > 0) {
+                    sql.append(" OR ");
+                }
+                sql.append("LOWER(").append(column).append(") LIKE '%").append(entry.getValue().get(i)).append("%'");
+            }
+            sql.append(" THEN '").append(entry.getKey()).append("'");
+        }
+        return sql.append(" ELSE '").append(OTHER).append("' END").toString();
+    }
+}
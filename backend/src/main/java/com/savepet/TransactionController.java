@@ -1,50 +1,224 @@
 package com.savepet;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/transactions")
 @CrossOrigin(origins = "http://localhost:3000")
 public class TransactionController {
 
+    // 검색/추천 한 번에 돌려주는 최대 건수
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     @Autowired
     private TransactionRepository repository;
 
     @Autowired
-    private CharacterService characterService;
+    private TransactionService transactionService;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private TransactionExportService exportService;
+
+    @Autowired
+    private TransactionSearchIndex searchIndex;
+
+    @Autowired
+    private IngestQueue ingestQueue;
 
     @GetMapping
-    public List<Transaction> getAllTransactions() {
-        return repository.findByOrderByCreatedAtDesc();
+    public List<TransactionView> getAllTransactions() {
+        return repository.findAllViews();
     }
 
     @PostMapping
     public Transaction createTransaction(@RequestBody Transaction transaction) {
-        return repository.save(transaction);
+        return transactionService.create(transaction);
+    }
+
+    /**
+     * 대량 접수 - 쓰기 지연 큐에 넣고 202 로 응답한다. 큐가 가득 차 일부만 접수되면 503 + Retry-After.
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<IngestQueue.IngestReceipt> ingestTransactions(@RequestBody List<Transaction> transactions)
+            throws InterruptedException {
+        checkBatchSize(transactions);
+        IngestQueue.IngestReceipt receipt = ingestQueue.submit(transactions);
+        if (!receipt.isComplete()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(receipt);
+        }
+        return ResponseEntity.status(ingestQueue.isEnabled() ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(receipt);
+    }
+
+    @GetMapping("/ingest/stats")
+    public IngestQueue.IngestStats getIngestStats() {
+        return ingestQueue.getStats();
     }
 
     @DeleteMapping("/{id}")
     public String deleteTransaction(@PathVariable Long id) {
-        repository.deleteById(id);
+        transactionService.delete(id);
         return "거래가 삭제되었습니다.";
     }
 
+    @PostMapping("/bulk-delete")
+    public String deleteTransactions(@RequestBody List<Long> ids) {
+        checkBatchSize(ids);
+        int deleted = transactionService.deleteByIds(ids);
+        return String.format("거래 %d건이 삭제되었습니다.", deleted);
+    }
+
+    /**
+     * from ~ to 날짜(둘 다 포함)의 거래 일괄 삭제
+     */
+    @DeleteMapping("/range")
+    public String deleteTransactionsInRange(@RequestParam String from, @RequestParam String to) {
+        int deleted = transactionService.deleteByDateRange(
+            LocalDate.parse(from).atStartOfDay(), LocalDate.parse(to).plusDays(1).atStartOfDay());
+        return String.format("거래 %d건이 삭제되었습니다.", deleted);
+    }
+
     @DeleteMapping("/reset")
     public String resetTransactions() {
-        repository.deleteAll();
+        transactionService.reset();
         return "거래 내역이 초기화되었습니다.";
     }
 
     @GetMapping("/daily/{date}")
-    public List<Transaction> getDailyTransactions(@PathVariable String date) {
+    public List<TransactionView> getDailyTransactions(@PathVariable String date) {
         LocalDate targetDate = LocalDate.parse(date);
         LocalDateTime startOfDay = targetDate.atStartOfDay();
-        LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
+        LocalDateTime nextDay = targetDate.plusDays(1).atStartOfDay();
+
+        return repository.findViewsByDateRange(startOfDay, nextDay);
+    }
+
+    /**
+     * 여러 날짜의 거래를 한 번에 조회 (?dates=2024-05-01,2024-05-02)
+     */
+    @GetMapping("/days")
+    public Map<String, List<TransactionView>> getTransactionsByDays(@RequestParam List<String> dates) {
+        if (dates.size() > TransactionService.MAX_DAYS_PER_REQUEST) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "한 번에 조회할 수 있는 날짜는 " + TransactionService.MAX_DAYS_PER_REQUEST + "개까지입니다");
+        }
+        return transactionService.getTransactionsByDays(
+            dates.stream().map(LocalDate::parse).collect(Collectors.toList()));
+    }
+
+    /**
+     * 거래 설명 검색. from/to 는 yyyy-MM-dd, to 는 해당 날짜를 포함한다.
+     */
+    @GetMapping("/search")
+    public List<TransactionSearchIndex.SearchHit> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return searchIndex.search(q,
+            from != null ? LocalDate.parse(from).atStartOfDay() : null,
+            to != null ? LocalDate.parse(to).plusDays(1).atStartOfDay() : null,
+            searchLimit(limit));
+    }
+
+    @GetMapping("/search/suggest")
+    public List<String> suggestDescriptions(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return searchIndex.suggest(prefix, searchLimit(limit));
+    }
+
+    /**
+     * 검색 결과 수는 1 이상이어야 하고 MAX_SEARCH_RESULTS 로 자른다
+     */
+    private static int searchLimit(int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit 은 1 이상이어야 합니다");
+        }
+        return Math.min(limit, MAX_SEARCH_RESULTS);
+    }
+
+    @GetMapping("/calendar/{month}")
+    public TransactionService.MonthCalendar getMonthCalendar(@PathVariable String month) {
+        return transactionService.getMonthCalendar(YearMonth.parse(month));
+    }
+
+    @GetMapping("/archive/{month}")
+    public List<Transaction> getArchivedTransactions(@PathVariable String month) {
+        return archiveService.reconstruct(YearMonth.parse(month));
+    }
+
+    @PostMapping("/archive")
+    public String archiveTransactions() {
+        archiveService.archiveExpired();
+        return "보관 기간이 지난 거래를 정리했습니다.";
+    }
+
+    /**
+     * 전체 거래 내역 내보내기 (csv, ndjson, bin). from/to 는 yyyy-MM-dd, to 는 해당 날짜를 포함한다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        TransactionExportService.Format exportFormat;
+        try {
+            exportFormat = TransactionExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식: " + format);
+        }
+        LocalDateTime start = from != null ? LocalDate.parse(from).atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime end = to != null ? LocalDate.parse(to).plusDays(1).atStartOfDay() : LocalDateTime.of(9999, 1, 1, 0, 0);
+
+        String filename = "transactions." + format.toLowerCase() + (gzip ? ".gz" : "");
+        MediaType contentType;
+        if (gzip) {
+            contentType = MediaType.parseMediaType("application/gzip");
+        } else if (exportFormat == TransactionExportService.Format.CSV) {
+            contentType = MediaType.parseMediaType("text/csv;charset=UTF-8");
+        } else if (exportFormat == TransactionExportService.Format.NDJSON) {
+            contentType = MediaType.parseMediaType("application/x-ndjson");
+        } else {
+            contentType = MediaType.APPLICATION_OCTET_STREAM;
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            exportService.export(out, exportFormat, start, end);
+            if (out instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) out).finish();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .contentType(contentType)
+            .body(body);
+    }
 
-        return repository.findByDateRange(startOfDay, endOfDay);
+    private static void checkBatchSize(List<?> items) {
+        if (items.size() > TransactionService.MAX_ITEMS_PER_REQUEST) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "한 번에 보낼 수 있는 항목은 " + TransactionService.MAX_ITEMS_PER_REQUEST + "건까지입니다");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package com.savepet;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 거래 내역 스트리밍 내보내기
+ * 전방향 JDBC 커서에서 읽은 행을 바로 출력 스트림에 쓰므로 행 수와 무관하게 메모리 사용량이 일정하다.
+ * 보관 테이블(TransactionArchive)의 행을 먼저, 현재 테이블의 행을 나중에 각각 시간순으로 내보낸다.
+ *
+ * 바이너리 형식 (big-endian):
+ *   헤더  "SPTX" + 버전(byte, 1)
+ *   레코드 id(long) | createdAt epoch 초, UTC 기준 LocalDateTime(long) | 나노초(int) | 유형(byte: 0=expense, 1=income, 2=기타)
+ *         | 금액 scale(byte) | 금액 unscaled 길이(byte) + 바이트 | 설명(modified UTF-8)
+ *   createdAt 이 없으면 epoch 초 자리에 Long.MIN_VALUE, 금액이 없으면 unscaled 길이 0 (실제 값에서는 나오지 않는다)
+ *
+ * CSV 는 빈 칸, NDJSON 은 null 로 없는 값을 쓴다. 값이 빠진 행 하나 때문에 내보내기가 중간에 끊기지 않도록.
+ */
+@Service
+public class TransactionExportService {
+
+    public enum Format { CSV, NDJSON, BIN }
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String COLUMNS = "id, created_at, type, amount, description";
+    private static final byte[] BINARY_MAGIC = {'S', 'P', 'T', 'X', 1};
+    private static final long BINARY_NULL_TIME = Long.MIN_VALUE;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void export(OutputStream out, Format format, LocalDateTime from, LocalDateTime to) throws IOException {
+        RowWriter writer = createWriter(out, format);
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursor.setFetchSize(FETCH_SIZE);
+
+        // 드라이버가 서버 커서를 쓰도록 읽기 전용 트랜잭션 안에서 조회
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            readOnly.executeWithoutResult(status -> {
+                RowCallbackHandler handler = rs -> {
+                    try {
+                        writer.write(rs);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+                cursor.query("SELECT " + COLUMNS + " FROM transaction_archive WHERE created_at >= ? AND created_at < ? ORDER BY created_at",
+                    handler, from, to);
+                cursor.query("SELECT " + COLUMNS + " FROM transaction WHERE created_at >= ? AND created_at < ? ORDER BY created_at",
+                    handler, from, to);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+    }
+
+    private RowWriter createWriter(OutputStream out, Format format) throws IOException {
+        switch (format) {
+            case CSV: return new CsvWriter(out);
+            case NDJSON: return new NdjsonWriter(objectMapper, out);
+            case BIN: return new BinaryWriter(out);
+            default: throw new IllegalArgumentException("지원하지 않는 형식: " + format);
+        }
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+        void finish() throws IOException;
+    }
+
+    private static class CsvWriter implements RowWriter {
+        private final Writer out;
+
+        CsvWriter(OutputStream stream) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            out.write("id,createdAt,type,amount,description\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            out.write(Long.toString(rs.getLong(1)));
+            out.write(',');
+            Timestamp createdAt = rs.getTimestamp(2);
+            if (createdAt != null) {
+                out.write(createdAt.toLocalDateTime().toString());
+            }
+            out.write(',');
+            out.write(escape(rs.getString(3)));
+            out.write(',');
+            BigDecimal amount = rs.getBigDecimal(4);
+            if (amount != null) {
+                out.write(amount.toPlainString());
+            }
+            out.write(',');
+            out.write(escape(rs.getString(5)));
+            out.write('\n');
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static class NdjsonWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonWriter(ObjectMapper objectMapper, OutputStream stream) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(new BufferedOutputStream(stream));
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong(1));
+            Timestamp createdAt = rs.getTimestamp(2);
+            generator.writeStringField("createdAt", createdAt != null ? createdAt.toLocalDateTime().toString() : null);
+            generator.writeStringField("type", rs.getString(3));
+            BigDecimal amount = rs.getBigDecimal(4);
+            if (amount != null) {
+                generator.writeNumberField("amount", amount);
+            } else {
+                generator.writeNullField("amount");
+            }
+            generator.writeStringField("description", rs.getString(5));
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+    }
+
+    private static class BinaryWriter implements RowWriter {
+        private final DataOutputStream out;
+
+        BinaryWriter(OutputStream stream) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.write(BINARY_MAGIC);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            Timestamp createdAt = rs.getTimestamp(2);
+            String type = rs.getString(3);
+            BigDecimal amount = rs.getBigDecimal(4);
+            String description = rs.getString(5);
+
+            out.writeLong(rs.getLong(1));
+            if (createdAt != null) {
+                LocalDateTime time = createdAt.toLocalDateTime();
+                out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(time.getNano());
+            } else {
+                out.writeLong(BINARY_NULL_TIME);
+                out.writeInt(0);
+            }
+            out.writeByte("expense".equals(type) ? 0 : "income".equals(type) ? 1 : 2);
+            if (amount != null) {
+                out.writeByte(amount.scale());
+                byte[] unscaled = amount.unscaledValue().toByteArray();
+                out.writeByte(unscaled.length);
+                out.write(unscaled);
+            } else {
+                out.writeByte(0);
+                out.writeByte(0);
+            }
+            out.writeUTF(description != null ? description : "");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+    }
+}
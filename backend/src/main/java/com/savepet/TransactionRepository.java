@@ -1,10 +1,13 @@
 package com.savepet;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +17,44 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT t FROM Transaction t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate")
     List<Transaction> findByDateRange(@Param("startDate") LocalDateTime startDate,
                                       @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.savepet.DailyTotal(CAST(t.createdAt AS LocalDate), t.type, COALESCE(SUM(t.amount), 0), COUNT(t)) " +
+           "FROM Transaction t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate " +
+           "GROUP BY CAST(t.createdAt AS LocalDate), t.type")
+    List<DailyTotal> sumByDay(@Param("startDate") LocalDateTime startDate,
+                              @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new com.savepet.TransactionView(t.id, t.description, t.amount, t.type, t.createdAt) " +
+           "FROM Transaction t ORDER BY t.createdAt DESC")
+    List<TransactionView> findAllViews();
+
+    @Query("SELECT new com.savepet.TransactionView(t.id, t.description, t.amount, t.type, t.createdAt) " +
+           "FROM Transaction t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate ORDER BY t.createdAt")
+    List<TransactionView> findViewsByDateRange(@Param("startDate") LocalDateTime startDate,
+                                               @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+           "WHERE t.type = 'expense' AND t.createdAt >= :startDate AND t.createdAt < :endDate")
+    BigDecimal sumExpenses(@Param("startDate") LocalDateTime startDate,
+                           @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT t.description AS description, t.amount AS amount FROM Transaction t " +
+           "WHERE t.type = 'expense' AND t.createdAt >= :startDate AND t.createdAt < :endDate")
+    List<ExpenseLine> findExpenseLines(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT MIN(t.createdAt) FROM Transaction t")
+    LocalDateTime findOldestCreatedAt();
+
+    @Query("SELECT DISTINCT t.createdAt FROM Transaction t WHERE t.id IN :ids")
+    List<LocalDateTime> findCreatedAtByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDateTime startDate,
+                          @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,385 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 거래 설명 검색용 메모리 역색인
+ * 형태소 분석 없이 한글을 다루기 위해 글자 단위 1-gram, 2-gram 을 색인하고,
+ * 질의의 n-gram 목록을 교집합한 뒤 원문 포함 여부로 최종 확인한다.
+ * 거래 생성/삭제 아웃박스 이벤트로 증분 갱신되고, 기동 시 테이블(보관 테이블 포함)에서 다시 만든다.
+ */
+@Component
+public class TransactionSearchIndex implements OutboxProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionSearchIndex.class);
+
+    // 점수 내림차순, 같은 점수면 최근 거래 먼저, 그래도 같으면 id 내림차순
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::getScore).reversed()
+        .thenComparing(SearchHit::getCreatedAt, Comparator.reverseOrder())
+        .thenComparing(SearchHit::getId, Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final NavigableMap<String, Suggestion> suggestions = new TreeMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Override
+    public String getProjectionName() {
+        return "search-index";
+    }
+
+    @Override
+    public boolean isRebuiltFromSource() {
+        return true;
+    }
+
+    @Override
+    public void resetProjection() {
+        rebuild();
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        switch (event.getEventType()) {
+            case OutboxEvent.TRANSACTION_CREATED:
+                add(outbox.readTransaction(event));
+                break;
+            case OutboxEvent.TRANSACTIONS_DELETED:
+                outbox.readIds(event).forEach(this::remove);
+                break;
+            case OutboxEvent.TRANSACTION_RANGE_DELETED:
+                LocalDateTime[] range = outbox.readRange(event);
+                removeRange(range[0], range[1]);
+                break;
+            case OutboxEvent.TRANSACTIONS_RESET:
+                clear();
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            suggestions.clear();
+            JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+            cursor.setFetchSize(1000);
+            RowCallbackHandler handler = rs -> {
+                Timestamp createdAt = rs.getTimestamp(5);
+                if (createdAt != null) {
+                    addInternal(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3), rs.getString(4), createdAt.toLocalDateTime());
+                }
+            };
+            cursor.query("SELECT id, description, amount, type, created_at FROM transaction_archive ORDER BY id", handler);
+            cursor.query("SELECT id, description, amount, type, created_at FROM transaction ORDER BY id", handler);
+            log.info("검색 색인 생성 완료: {}건, n-gram {}개", docs.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(Transaction transaction) {
+        lock.writeLock().lock();
+        try {
+            addInternal(transaction.getId(), transaction.getDescription(), transaction.getAmount(),
+                transaction.getType(), transaction.getCreatedAt());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 기간에 생성된 문서 제거 (기간 일괄 삭제용)
+     */
+    public void removeRange(LocalDateTime from, LocalDateTime to) {
+        lock.writeLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Doc doc : docs.values()) {
+                if (!doc.createdAt.isBefore(from) && doc.createdAt.isBefore(to)) {
+                    ids.add(doc.id);
+                }
+            }
+            ids.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            suggestions.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 설명에 질의 문자열이 포함된 거래를 점수순으로 반환.
+     * 설명이 질의로 시작할수록, 설명이 짧을수록(질의 비중이 클수록), 최근일수록 앞에 온다.
+     */
+    public List<SearchHit> search(String query, LocalDateTime from, LocalDateTime to, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (String gram : queryGrams(q)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // 점수가 가장 낮은 결과가 머리에 오는 크기 limit 의 힙 - 전체 결과를 정렬하지 않고 상위 limit 건만 남긴다
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            PostingList smallest = lists.get(0);
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                boolean inAll = true;
+                for (int j = 1; j < lists.size() && inAll; j++) {
+                    inAll = lists.get(j).contains(id);
+                }
+                if (!inAll) {
+                    continue;
+                }
+                Doc doc = docs.get(id);
+                if (doc == null || !doc.normalized.contains(q)) {
+                    continue;
+                }
+                if ((from != null && doc.createdAt.isBefore(from)) || (to != null && !doc.createdAt.isBefore(to))) {
+                    continue;
+                }
+                double score = (double) q.length() / doc.normalized.length() + (doc.normalized.startsWith(q) ? 1.0 : 0.0);
+                top.add(new SearchHit(doc.id, doc.description, doc.amount, doc.type, doc.createdAt, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 설명을 사용 빈도순으로 추천
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Suggestion> candidates = new ArrayList<>(suggestions.subMap(p, true, p + '\uffff', false).values());
+            candidates.sort(Comparator.comparingInt((Suggestion s) -> s.count).reversed());
+            List<String> result = new ArrayList<>();
+            for (int i = 0; i < Math.min(limit, candidates.size()); i++) {
+                result.add(candidates.get(i).text);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(long id, String description, BigDecimal amount, String type, LocalDateTime createdAt) {
+        if (description == null || createdAt == null || docs.containsKey(id)) {
+            return;
+        }
+        Doc doc = new Doc(id, description, normalize(description), amount, type, createdAt);
+        docs.put(id, doc);
+        for (String gram : documentGrams(doc.normalized)) {
+            postings.computeIfAbsent(gram, k -> new PostingList()).add(id);
+        }
+        suggestions.computeIfAbsent(doc.normalized, k -> new Suggestion(description.trim())).count++;
+    }
+
+    private void removeInternal(Long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String gram : documentGrams(doc.normalized)) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        Suggestion suggestion = suggestions.get(doc.normalized);
+        if (suggestion != null && --suggestion.count <= 0) {
+            suggestions.remove(doc.normalized);
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase().replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * 문서는 공백을 뺀 문자열의 1-gram (한 글자 질의용) 과 2-gram 을 모두 색인
+     */
+    private static Set<String> documentGrams(String text) {
+        String compact = text.replace(" ", "");
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < compact.length(); i++) {
+            result.add(compact.substring(i, i + 1));
+            if (i + 1 < compact.length()) {
+                result.add(compact.substring(i, i + 2));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 질의는 두 글자 이상이면 2-gram 만, 한 글자면 1-gram 으로 찾는다
+     */
+    private static Set<String> queryGrams(String text) {
+        String compact = text.replace(" ", "");
+        Set<String> result = new LinkedHashSet<>();
+        if (compact.length() == 1) {
+            result.add(compact);
+        }
+        for (int i = 0; i + 1 < compact.length(); i++) {
+            result.add(compact.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    private static class Doc {
+        final long id;
+        final String description;
+        final String normalized;
+        final BigDecimal amount;
+        final String type;
+        final LocalDateTime createdAt;
+
+        Doc(long id, String description, String normalized, BigDecimal amount, String type, LocalDateTime createdAt) {
+            this.id = id;
+            this.description = description;
+            this.normalized = normalized;
+            this.amount = amount;
+            this.type = type;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * 정렬된 id 배열. 새 거래는 id 가 증가하므로 대부분 끝에 추가된다.
+     */
+    private static class PostingList {
+        long[] ids = new long[4];
+        int size;
+
+        void add(long id) {
+            int pos = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0 && pos < size) {
+                return; // 이미 있음
+            }
+            int insertAt = pos >= 0 ? pos : -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                size--;
+            }
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+    private static class Suggestion {
+        final String text;
+        int count;
+
+        Suggestion(String text) {
+            this.text = text;
+        }
+    }
+
+    public static class SearchHit {
+        private Long id;
+        private String description;
+        private BigDecimal amount;
+        private String type;
+        private LocalDateTime createdAt;
+        private Double score;
+
+        public SearchHit(Long id, String description, BigDecimal amount, String type, LocalDateTime createdAt, Double score) {
+            this.id = id;
+            this.description = description;
+            this.amount = amount;
+            this.type = type;
+            this.createdAt = createdAt;
+            this.score = score;
+        }
+
+        public Long getId() { return id; }
+        public String getDescription() { return description; }
+        public BigDecimal getAmount() { return amount; }
+        public String getType() { return type; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public Double getScore() { return score; }
+    }
+}
@@ -0,0 +1,287 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+@Service
+public class TransactionService {
+
+    // getTransactionsByDays 한 번에 받을 수 있는 날짜 수
+    public static final int MAX_DAYS_PER_REQUEST = 31;
+
+    // 대량 접수/삭제 요청 한 번에 받을 수 있는 건수
+    public static final int MAX_ITEMS_PER_REQUEST = 1000;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private TransactionArchiveRepository archiveRepository;
+
+    @Autowired
+    private MonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private WeeklyReportService weeklyReportService;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private BudgetPeriodService budgetPeriods;
+
+    @Autowired
+    private AmountDistributionService amountDistribution;
+
+    @Autowired
+    private MerchantStatsService merchantStats;
+
+    /**
+     * createdAt 이 비어 있으면 저장 시각으로 채운다 (기간 조회와 색인 재구성이 시각을 전제로 하므로)
+     */
+    @Transactional
+    public Transaction create(Transaction transaction) {
+        if (transaction.getCreatedAt() == null) {
+            transaction.setCreatedAt(LocalDateTime.now());
+        }
+        Transaction saved = repository.save(transaction);
+        amountDistribution.score(saved);
+        weeklyReportService.onTransactionChanged(saved.getCreatedAt());
+        budgetPeriods.onTransactionsChanged(saved.getCreatedAt(), saved.getCreatedAt());
+        outbox.transactionCreated(saved);
+        dataVersion.bump();
+        return saved;
+    }
+
+    /**
+     * 여러 거래를 한 트랜잭션(한 번의 커밋)으로 저장 - 쓰기 지연 큐의 그룹 커밋에 사용
+     */
+    @Transactional
+    public List<Transaction> createAll(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Transaction transaction : transactions) {
+            if (transaction.getCreatedAt() == null) {
+                transaction.setCreatedAt(now);
+            }
+        }
+        List<Transaction> saved = repository.saveAll(transactions);
+        saved.forEach(amountDistribution::score);
+        saved.stream()
+            .map(t -> WeeklyReportService.weekStartOf(t.getCreatedAt().toLocalDate()))
+            .distinct()
+            .forEach(weekStart -> weeklyReportService.onTransactionChanged(weekStart.atStartOfDay()));
+        onBudgetPeriodsChanged(saved.stream().map(Transaction::getCreatedAt).toList());
+        saved.forEach(outbox::transactionCreated);
+        dataVersion.bump();
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        deleteByIds(List.of(id));
+    }
+
+    /**
+     * id 목록을 테이블마다 한 번의 DELETE 로 삭제(보관된 거래 포함)하고,
+     * 영향받은 월별 합계와 마감 주 리포트를 같은 트랜잭션에서 재집계
+     */
+    @Transactional
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        List<LocalDateTime> affected = new ArrayList<>(repository.findCreatedAtByIdIn(ids));
+        List<LocalDateTime> archived = archiveRepository.findCreatedAtByIdIn(ids);
+        int deleted = repository.deleteByIdIn(ids);
+        if (!archived.isEmpty()) {
+            deleted += archiveRepository.deleteByIdIn(ids);
+            archiveService.summarizeMonths(archived);
+            affected.addAll(archived);
+        }
+        affected.stream()
+            .map(createdAt -> WeeklyReportService.weekStartOf(createdAt.toLocalDate()))
+            .distinct()
+            .forEach(weekStart -> weeklyReportService.onTransactionChanged(weekStart.atStartOfDay()));
+        onBudgetPeriodsChanged(affected);
+        outbox.transactionsDeleted(ids);
+        dataVersion.bump();
+        return deleted;
+    }
+
+    /**
+     * [from, to) 기간의 거래를 테이블마다 한 번의 DELETE 로 삭제 (보관된 거래와 그 월별 합계 포함)
+     */
+    @Transactional
+    public int deleteByDateRange(LocalDateTime from, LocalDateTime to) {
+        int deleted = repository.deleteByDateRange(from, to);
+        int archived = archiveRepository.deleteByDateRange(from, to);
+        if (archived > 0) {
+            archiveService.onRangeDeleted(from, to);
+        }
+        deleted += archived;
+        weeklyReportService.onRangeChanged(from, to);
+        budgetPeriods.onTransactionsChanged(from, to);
+        outbox.transactionRangeDeleted(from, to);
+        dataVersion.bump();
+        return deleted;
+    }
+
+    /**
+     * 테이블마다 한 번의 DELETE 로 전체 거래 내역과 파생 데이터(보관, 월별 합계, 주간 리포트)를 초기화
+     */
+    @Transactional
+    public void reset() {
+        repository.deleteAllInBatch();
+        archiveRepository.deleteAllInBatch();
+        summaryRepository.deleteAllInBatch();
+        weeklyReportService.invalidateAll();
+        budgetPeriods.reset();
+        merchantStats.deleteSaved();
+        amountDistribution.deleteSaved();
+        outbox.transactionsReset();
+        dataVersion.bump();
+    }
+
+    /**
+     * 변경된 거래 시각들을 덮는 범위로 마감된 예산 기간 결과를 다시 기록 (조회 한 번)
+     */
+    private void onBudgetPeriodsChanged(List<LocalDateTime> createdAts) {
+        LocalDateTime first = null;
+        LocalDateTime last = null;
+        for (LocalDateTime createdAt : createdAts) {
+            if (createdAt == null) {
+                continue;
+            }
+            if (first == null || createdAt.isBefore(first)) {
+                first = createdAt;
+            }
+            if (last == null || createdAt.isAfter(last)) {
+                last = createdAt;
+            }
+        }
+        if (first != null) {
+            budgetPeriods.onTransactionsChanged(first, last);
+        }
+    }
+
+    /**
+     * 한 달의 일별 수입/지출 합계와 건수 (GROUP BY 한 번)
+     */
+    @Transactional(readOnly = true)
+    public MonthCalendar getMonthCalendar(YearMonth month) {
+        Map<LocalDate, DaySummary> days = new LinkedHashMap<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            days.put(date, new DaySummary(date));
+        }
+
+        for (DailyTotal total : repository.sumByDay(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay())) {
+            DaySummary summary = days.get(total.getDate());
+            if (summary != null) {
+                summary.add(total);
+            }
+        }
+
+        return new MonthCalendar(month.toString(), new ArrayList<>(days.values()));
+    }
+
+    /**
+     * 여러 날짜의 거래를 날짜별로 나눠 반환. 연속된 날짜끼리 묶어 묶음마다 한 번씩 범위 조회하므로
+     * 떨어진 날짜 사이의 거래는 읽지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<TransactionView>> getTransactionsByDays(Collection<LocalDate> dates) {
+        Map<String, List<TransactionView>> result = new LinkedHashMap<>();
+        if (dates == null || dates.isEmpty()) {
+            return result;
+        }
+        SortedSet<LocalDate> sorted = new TreeSet<>(dates);
+        if (sorted.size() > MAX_DAYS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 날짜는 " + MAX_DAYS_PER_REQUEST + "개까지입니다: " + sorted.size());
+        }
+        for (LocalDate date : sorted) {
+            result.put(date.toString(), new ArrayList<>());
+        }
+        LocalDate runStart = null;
+        LocalDate runEnd = null;
+        for (LocalDate date : sorted) {
+            if (runEnd != null && date.equals(runEnd.plusDays(1))) {
+                runEnd = date;
+                continue;
+            }
+            if (runStart != null) {
+                collectDays(result, runStart, runEnd);
+            }
+            runStart = date;
+            runEnd = date;
+        }
+        collectDays(result, runStart, runEnd);
+        return result;
+    }
+
+    private void collectDays(Map<String, List<TransactionView>> result, LocalDate first, LocalDate last) {
+        for (TransactionView transaction : repository.findViewsByDateRange(
+                first.atStartOfDay(), last.plusDays(1).atStartOfDay())) {
+            result.get(transaction.getCreatedAt().toLocalDate().toString()).add(transaction);
+        }
+    }
+
+    public static class DaySummary {
+        private LocalDate date;
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private Long incomeCount = 0L;
+        private Long expenseCount = 0L;
+
+        public DaySummary(LocalDate date) {
+            this.date = date;
+        }
+
+        void add(DailyTotal total) {
+            if ("income".equals(total.getType())) {
+                income = income.add(total.getTotal());
+                incomeCount += total.getCount();
+            } else if ("expense".equals(total.getType())) {
+                expense = expense.add(total.getTotal());
+                expenseCount += total.getCount();
+            }
+        }
+
+        public LocalDate getDate() { return date; }
+        public BigDecimal getIncome() { return income; }
+        public BigDecimal getExpense() { return expense; }
+        public Long getIncomeCount() { return incomeCount; }
+        public Long getExpenseCount() { return expenseCount; }
+    }
+
+    public static class MonthCalendar {
+        private String month;
+        private List<DaySummary> days;
+
+        public MonthCalendar(String month, List<DaySummary> days) {
+            this.month = month;
+            this.days = days;
+        }
+
+        public String getMonth() { return month; }
+        public List<DaySummary> getDays() { return days; }
+    }
+}
@@ -0,0 +1,29 @@
+package com.savepet;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 목록 응답용 프로젝션 (엔티티 적재/변경 감지 없이 필요한 컬럼만 조회)
+ */
+public class TransactionView {
+    private Long id;
+    private String description;
+    private BigDecimal amount;
+    private String type;
+    private LocalDateTime createdAt;
+
+    public TransactionView(Long id, String description, BigDecimal amount, String type, LocalDateTime createdAt) {
+        this.id = id;
+        this.description = description;
+        this.amount = amount;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getDescription() { return description; }
+    public BigDecimal getAmount() { return amount; }
+    public String getType() { return type; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
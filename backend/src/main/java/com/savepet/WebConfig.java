@@ -0,0 +1,25 @@
+package com.savepet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+            .addPathPatterns(
+                "/api/transactions",
+                "/api/transactions/ingest",
+                "/api/transactions/bulk-delete",
+                "/api/character/add-experience",
+                "/api/character/check-saving",
+                "/api/character/check-*-savings");
+    }
+}
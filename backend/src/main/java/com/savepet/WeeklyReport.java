@@ -0,0 +1,67 @@
+package com.savepet;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 마감된 주(월~일)의 집계 결과
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_weekly_report_week_start", columnList = "weekStart", unique = true))
+public class WeeklyReport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private BigDecimal totalExpenses = BigDecimal.ZERO;
+    private BigDecimal totalIncome = BigDecimal.ZERO;
+    private BigDecimal budgetTarget;
+    private BigDecimal savedAmount;
+    private LocalDateTime generatedAt = LocalDateTime.now();
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "weekly_report_category", joinColumns = @JoinColumn(name = "report_id"))
+    @MapKeyColumn(name = "category")
+    @Column(name = "amount")
+    private Map<String, BigDecimal> categoryExpenses = new LinkedHashMap<>();
+
+    public WeeklyReport() {}
+
+    public WeeklyReport(LocalDate weekStart) {
+        this.weekStart = weekStart;
+        this.weekEnd = weekStart.plusDays(6);
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getWeekStart() { return weekStart; }
+    public void setWeekStart(LocalDate weekStart) { this.weekStart = weekStart; }
+
+    public LocalDate getWeekEnd() { return weekEnd; }
+    public void setWeekEnd(LocalDate weekEnd) { this.weekEnd = weekEnd; }
+
+    public BigDecimal getTotalExpenses() { return totalExpenses; }
+    public void setTotalExpenses(BigDecimal totalExpenses) { this.totalExpenses = totalExpenses; }
+
+    public BigDecimal getTotalIncome() { return totalIncome; }
+    public void setTotalIncome(BigDecimal totalIncome) { this.totalIncome = totalIncome; }
+
+    public BigDecimal getBudgetTarget() { return budgetTarget; }
+    public void setBudgetTarget(BigDecimal budgetTarget) { this.budgetTarget = budgetTarget; }
+
+    public BigDecimal getSavedAmount() { return savedAmount; }
+    public void setSavedAmount(BigDecimal savedAmount) { this.savedAmount = savedAmount; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+
+    public Map<String, BigDecimal> getCategoryExpenses() { return categoryExpenses; }
+    public void setCategoryExpenses(Map<String, BigDecimal> categoryExpenses) { this.categoryExpenses = categoryExpenses; }
+}
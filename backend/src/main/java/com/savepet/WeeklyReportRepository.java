@@ -0,0 +1,19 @@
+package com.savepet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WeeklyReportRepository extends JpaRepository<WeeklyReport, Long> {
+    WeeklyReport findByWeekStart(LocalDate weekStart);
+    List<WeeklyReport> findByWeekStartGreaterThanEqualAndWeekStartLessThanOrderByWeekStartAsc(LocalDate from, LocalDate to);
+
+    // 리포트 카테고리 컬렉션 테이블 일괄 삭제 (JPQL 일괄 삭제는 컬렉션 테이블을 지우지 않음)
+    @Modifying
+    @Query(value = "DELETE FROM weekly_report_category", nativeQuery = true)
+    void deleteAllCategories();
+}
@@ -0,0 +1,164 @@
+package com.savepet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주간 리포트 생성/조회
+ * 마감된 주는 WeeklyReport 로 한 번만 집계하고, 진행 중인 주만 실시간으로 계산한다.
+ */
+@Service
+@Lazy(false) // 지연 초기화 프로필에서도 스케줄 작업이 등록되도록
+public class WeeklyReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(WeeklyReportService.class);
+
+    // 시작 시 미리 만들어 둘 과거 주 수 (분석 화면의 최대 범위)
+    private static final int BACKFILL_WEEKS = 8;
+
+    @Autowired
+    private WeeklyReportRepository reportRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private ParallelAggregator parallelAggregator;
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    public static boolean isClosed(LocalDate weekStart) {
+        return weekStart.isBefore(weekStartOf(LocalDate.now()));
+    }
+
+    /**
+     * 매주 월요일 0시에 지난 주를 마감
+     */
+    @Scheduled(cron = "0 0 0 * * MON")
+    public void closeLastWeek() {
+        LocalDate lastWeek = weekStartOf(LocalDate.now()).minusWeeks(1);
+        regenerate(lastWeek);
+        log.info("주간 리포트 마감: {}", lastWeek);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        LocalDate currentWeek = weekStartOf(LocalDate.now());
+        for (int i = BACKFILL_WEEKS; i >= 1; i--) {
+            getReport(currentWeek.minusWeeks(i));
+        }
+    }
+
+    /**
+     * 주 단위 집계 조회. 마감된 주는 저장된 리포트를, 진행 중인 주는 실시간 계산 결과를 반환
+     */
+    @Transactional
+    public WeeklyReport getReport(LocalDate weekStart) {
+        if (!isClosed(weekStart)) {
+            return compute(weekStart);
+        }
+        WeeklyReport report = reportRepository.findByWeekStart(weekStart);
+        return report != null ? report : reportRepository.save(compute(weekStart));
+    }
+
+    /**
+     * 읽기 전용 조회. 저장된 리포트가 없으면 계산만 하고 저장하지 않는다 (마감 주는 시작 시 backfill 과 주간 마감이 채운다)
+     */
+    @Transactional(readOnly = true)
+    public WeeklyReport findReport(LocalDate weekStart) {
+        if (!isClosed(weekStart)) {
+            return compute(weekStart);
+        }
+        WeeklyReport report = reportRepository.findByWeekStart(weekStart);
+        return report != null ? report : compute(weekStart);
+    }
+
+    /**
+     * 거래가 추가/삭제된 시점이 이미 마감된 주라면 해당 주 리포트를 다시 집계
+     */
+    @Transactional
+    public void onTransactionChanged(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+        LocalDate weekStart = weekStartOf(createdAt.toLocalDate());
+        if (isClosed(weekStart) && reportRepository.findByWeekStart(weekStart) != null) {
+            log.debug("마감된 주에 거래 변경 발생, 리포트 재집계: {}", weekStart);
+            regenerate(weekStart);
+        }
+    }
+
+    /**
+     * 기간 단위 변경(일괄 삭제 등) 시 해당 기간에 걸친 마감 주 리포트를 재집계
+     */
+    @Transactional
+    public void onRangeChanged(LocalDateTime from, LocalDateTime to) {
+        for (WeeklyReport report : reportRepository.findByWeekStartGreaterThanEqualAndWeekStartLessThanOrderByWeekStartAsc(
+                weekStartOf(from.toLocalDate()), to.toLocalDate().plusDays(1))) {
+            regenerate(report.getWeekStart());
+        }
+    }
+
+    @Transactional
+    public void invalidateAll() {
+        reportRepository.deleteAllCategories();
+        reportRepository.deleteAllInBatch();
+    }
+
+    @Transactional
+    public WeeklyReport regenerate(LocalDate weekStart) {
+        WeeklyReport existing = reportRepository.findByWeekStart(weekStart);
+        if (existing == null || existing.getBudgetTarget() == null) {
+            WeeklyReport computed = compute(weekStart);
+            if (existing != null) {
+                computed.setId(existing.getId());
+            }
+            return reportRepository.save(computed);
+        }
+        // 소급 변경으로 다시 집계해도 그 주의 예산은 마감 당시 값을 유지한다
+        WeeklyReport computed = compute(weekStart, existing.getBudgetTarget());
+        computed.setId(existing.getId());
+        return reportRepository.save(computed);
+    }
+
+    private WeeklyReport compute(LocalDate weekStart) {
+        return compute(weekStart, budgetRepository.findById(1L).orElse(new Budget()).getTargetAmount());
+    }
+
+    private WeeklyReport compute(LocalDate weekStart, BigDecimal target) {
+        // 보관 기간이 지난 주는 보관 테이블의 원본 행까지 함께 집계
+        ExpenseAccumulator accumulator = parallelAggregator.aggregate(
+            weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay(), true);
+
+        Map<String, BigDecimal> categories = new LinkedHashMap<>();
+        for (String category : TransactionCategories.ALL) {
+            categories.put(category, accumulator.getCategoryExpenses().getOrDefault(category, BigDecimal.ZERO));
+        }
+        BigDecimal expenses = accumulator.getTotalExpenses();
+        BigDecimal income = accumulator.getTotalIncome();
+
+        WeeklyReport report = new WeeklyReport(weekStart);
+        report.setTotalExpenses(expenses);
+        report.setTotalIncome(income);
+        report.setCategoryExpenses(categories);
+        report.setBudgetTarget(target);
+        report.setSavedAmount(target.subtract(expenses));
+        report.setGeneratedAt(LocalDateTime.now());
+        return report;
+    }
+}
@@ -0,0 +1,106 @@
+package com.savepet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.DatagramSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 DB 를 쓰는 인스턴스 두 개를 띄우고, 한쪽에서 쓴 예산이 다른 쪽의 캐시된 읽기에도 반영되는지 확인
+ */
+class CacheCoherenceTests {
+
+	private final RestTemplate rest = new RestTemplate();
+	private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+	@AfterEach
+	void stopNodes() {
+		nodes.forEach(ConfigurableApplicationContext::close);
+		nodes.clear();
+	}
+
+	@Test
+	void readsConvergeOverLocalSocket() throws IOException {
+		int portA = freeUdpPort();
+		int portB = freeUdpPort();
+		String a = start("socket-db", "--savepet.cache-bus.transport=socket",
+			"--savepet.cache-bus.socket.port=" + portA, "--savepet.cache-bus.socket.peers=" + portB);
+		String b = start("socket-db", "--savepet.cache-bus.transport=socket",
+			"--savepet.cache-bus.socket.port=" + portB, "--savepet.cache-bus.socket.peers=" + portA);
+
+		assertConverges(a, b);
+	}
+
+	@Test
+	void readsConvergeOverLoopback() {
+		String a = start("loopback-db", "--savepet.cache-bus.transport=loopback");
+		String b = start("loopback-db", "--savepet.cache-bus.transport=loopback");
+
+		assertConverges(a, b);
+	}
+
+	private void assertConverges(String a, String b) {
+		// 두 노드 모두 현재 예산을 캐시에 올려 둔다
+		rest.getForObject(a + "/api/budget/current", Map.class);
+		rest.getForObject(b + "/api/budget/current", Map.class);
+
+		rest.postForObject(a + "/api/budget/set?amount=250000", null, Map.class);
+		assertEquals(0, targetAmount(a).compareTo(BigDecimal.valueOf(250000)));
+		assertEquals(0, awaitTargetAmount(b, BigDecimal.valueOf(250000)).compareTo(BigDecimal.valueOf(250000)));
+
+		rest.postForObject(b + "/api/budget/set?amount=120000", null, Map.class);
+		assertEquals(0, awaitTargetAmount(a, BigDecimal.valueOf(120000)).compareTo(BigDecimal.valueOf(120000)));
+	}
+
+	private BigDecimal awaitTargetAmount(String node, BigDecimal expected) {
+		long deadline = System.currentTimeMillis() + 5000;
+		BigDecimal current = targetAmount(node);
+		while (current.compareTo(expected) != 0 && System.currentTimeMillis() < deadline) {
+			sleep(50);
+			current = targetAmount(node);
+		}
+		return current;
+	}
+
+	private BigDecimal targetAmount(String node) {
+		Map<?, ?> budget = rest.getForObject(node + "/api/budget/current", Map.class);
+		return new BigDecimal(String.valueOf(budget.get("targetAmount")));
+	}
+
+	private String start(String database, String... transportArgs) {
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+			"--spring.jpa.hibernate.ddl-auto=update",
+			"--spring.jpa.show-sql=false",
+			"--savepet.ingest.enabled=false"));
+		args.addAll(List.of(transportArgs));
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(SavepetBackendApplication.class)
+			.run(args.toArray(new String[0]));
+		nodes.add(context);
+		return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+	}
+
+	private static int freeUdpPort() throws IOException {
+		try (DatagramSocket socket = new DatagramSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 요청에서 절약 현황 조회의 순차 실행과 팬아웃 실행 지연 시간 비교
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:fan-out-benchmark",
+	"spring.jpa.show-sql=false",
+	"logging.level.com.savepet=INFO",
+	"savepet.ingest.enabled=false"
+})
+class FanOutBenchmark {
+
+	private static final String[] DESCRIPTIONS = {"스타벅스 아메리카노", "편의점 과자", "배달 치킨", "쇼핑 옷", "지하철", "마트 장보기"};
+
+	@Autowired
+	private CharacterService characterService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void fanOutLowersSavingStatusLatency() throws Exception {
+		int rows = Integer.getInteger("benchmark.status-rows", 100_000);
+		int clients = Integer.getInteger("benchmark.clients", 16);
+		int requests = Integer.getInteger("benchmark.requests", 50);
+		insertRows(rows);
+
+		// 워밍업
+		run(clients, requests, characterService::getCurrentSavingStatus);
+		run(clients, requests, () -> characterService.getCurrentSavingStatusAsync().join());
+
+		long[] sequential = run(clients, requests, characterService::getCurrentSavingStatus);
+		long[] fanOut = run(clients, requests, () -> characterService.getCurrentSavingStatusAsync().join());
+
+		System.out.printf("rows=%d clients=%d requests=%d sequential p50=%.2fms p95=%.2fms fan-out p50=%.2fms p95=%.2fms%n",
+			rows, clients, clients * requests,
+			percentile(sequential, 0.5), percentile(sequential, 0.95),
+			percentile(fanOut, 0.5), percentile(fanOut, 0.95));
+
+		CharacterService.SavingStatus expected = characterService.getCurrentSavingStatus();
+		CharacterService.SavingStatus actual = characterService.getCurrentSavingStatusAsync().join();
+		assertTrue(actual.getDegraded().isEmpty());
+		assertEquals(0, expected.getWeeklyExpenses().compareTo(actual.getWeeklyExpenses()));
+		assertEquals(0, expected.getTodayExpenses().compareTo(actual.getTodayExpenses()));
+	}
+
+	private long[] run(int clients, int requests, Supplier<CharacterService.SavingStatus> call) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(clients);
+		try {
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (int c = 0; c < clients; c++) {
+				futures.add(pool.submit(() -> {
+					long[] latencies = new long[requests];
+					for (int i = 0; i < requests; i++) {
+						long start = System.nanoTime();
+						call.get();
+						latencies[i] = System.nanoTime() - start;
+					}
+					return latencies;
+				}));
+			}
+			long[] all = new long[clients * requests];
+			int offset = 0;
+			for (Future<long[]> future : futures) {
+				long[] latencies = future.get();
+				System.arraycopy(latencies, 0, all, offset, latencies.length);
+				offset += latencies.length;
+			}
+			Arrays.sort(all);
+			return all;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static double percentile(long[] sorted, double q) {
+		return sorted[Math.min(sorted.length - 1, (int) (sorted.length * q))] / 1_000_000.0;
+	}
+
+	private void insertRows(int rows) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] {
+				DESCRIPTIONS[i % DESCRIPTIONS.length],
+				BigDecimal.valueOf(1000 + (i % 50) * 100),
+				i % 10 == 0 ? "income" : "expense",
+				Timestamp.valueOf(now.minusSeconds(i % 86_400L * 7))
+			});
+			if (batch.size() == 10_000) {
+				jdbcTemplate.batchUpdate(
+					"INSERT INTO transaction (description, amount, type, created_at) VALUES (?, ?, ?, ?)", batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(
+				"INSERT INTO transaction (description, amount, type, created_at) VALUES (?, ?, ?, ?)", batch);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardServiceTests {
+
+	private final LeaderboardService leaderboard = new LeaderboardService();
+
+	@Test
+	void ordersByStageThenExperienceThenId() {
+		leaderboard.update(character(1L, "EGG", 90));
+		leaderboard.update(character(2L, "BABY", 120));
+		leaderboard.update(character(3L, "BABY", 300));
+		leaderboard.update(character(4L, "EGG", 90));
+
+		assertEquals(List.of(3L, 2L, 1L, 4L), ids(leaderboard.page(0, 10)));
+		assertEquals(1, leaderboard.rankOf(3L));
+		assertEquals(4, leaderboard.rankOf(4L));
+		assertEquals(0, leaderboard.rankOf(99L));
+	}
+
+	@Test
+	void updateReplacesPreviousEntry() {
+		leaderboard.update(character(1L, "EGG", 50));
+		leaderboard.update(character(2L, "EGG", 80));
+		assertEquals(2, leaderboard.rankOf(1L));
+
+		leaderboard.update(character(1L, "BABY", 100));
+
+		assertEquals(1, leaderboard.rankOf(1L));
+		assertEquals(2, leaderboard.page(0, 10).getTotal());
+		assertEquals("BABY", leaderboard.page(0, 1).getEntries().get(0).getStage());
+	}
+
+	@Test
+	void aroundReturnsNeighboursClampedAtTop() {
+		for (long id = 1; id <= 10; id++) {
+			leaderboard.update(character(id, "EGG", (int) (1000 - id * 10)));
+		}
+
+		LeaderboardService.LeaderboardPage middle = leaderboard.around(5L, 2);
+		assertEquals(List.of(3L, 4L, 5L, 6L, 7L), ids(middle));
+		assertEquals(3, middle.getEntries().get(0).getRank());
+
+		assertEquals(List.of(1L, 2L, 3L), ids(leaderboard.around(1L, 2)));
+		assertEquals(List.of(8L, 9L, 10L), ids(leaderboard.around(10L, 2)));
+		assertTrue(leaderboard.around(99L, 2).getEntries().isEmpty());
+	}
+
+	private static Character character(Long id, String stage, int experience) {
+		Character character = new Character("pet-" + id);
+		character.setId(id);
+		character.setStage(stage);
+		character.setExperience(experience);
+		return character;
+	}
+
+	private static List<Long> ids(LeaderboardService.LeaderboardPage page) {
+		return page.getEntries().stream().map(LeaderboardService.RankedEntry::getCharacterId).toList();
+	}
+}
@@ -0,0 +1,101 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissionEvaluatorTests {
+
+	private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+	private static final MissionDefinition COFFEE =
+		new MissionDefinition("EGG", "COFFEE", "커피값 절약하기", 3, "0.5", 50000, "커피", "Coffee");
+
+	@Test
+	void matchesKeywordsIgnoringCase() {
+		MissionEvaluator evaluator = new MissionEvaluator(COFFEE, TODAY);
+
+		assertTrue(evaluator.matches("스타벅스 커피"));
+		assertTrue(evaluator.matches("COFFEE bean"));
+		assertFalse(evaluator.matches("편의점 과자"));
+		assertFalse(evaluator.matches(null));
+	}
+
+	@Test
+	void sumsOnlyDaysInsideWindow() {
+		MissionEvaluator evaluator = new MissionEvaluator(COFFEE, TODAY);
+
+		evaluator.apply(TODAY, won(1000));
+		evaluator.apply(TODAY.minusDays(3), won(2000));
+		evaluator.apply(TODAY.minusDays(4), won(4000));
+		evaluator.apply(TODAY.plusDays(1), won(8000));
+
+		assertEquals(won(3000), evaluator.getWindowExpenses());
+	}
+
+	@Test
+	void advanceDropsExpiredDaysOnly() {
+		MissionEvaluator evaluator = new MissionEvaluator(COFFEE, TODAY);
+		evaluator.apply(TODAY.minusDays(3), won(2000));
+		evaluator.apply(TODAY.minusDays(1), won(500));
+
+		evaluator.advanceTo(TODAY.plusDays(1));
+		assertEquals(won(500), evaluator.getWindowExpenses());
+
+		evaluator.advanceTo(TODAY);
+		assertEquals(won(500), evaluator.getWindowExpenses());
+
+		evaluator.apply(TODAY.plusDays(1), won(700));
+		evaluator.advanceTo(TODAY.plusDays(10));
+		assertEquals(BigDecimal.ZERO, evaluator.getWindowExpenses());
+	}
+
+	@Test
+	void savingsIsBudgetShareMinusSpendClampedAtZero() {
+		MissionEvaluator evaluator = new MissionEvaluator(COFFEE, TODAY);
+		evaluator.apply(TODAY, won(3000));
+
+		assertEquals(0, evaluator.savings(won(10000)).compareTo(won(2000)));
+		assertEquals(BigDecimal.ZERO, evaluator.savings(won(4000)));
+	}
+
+	@Test
+	void incrementalTotalMatchesRecomputation() {
+		MissionEvaluator evaluator = new MissionEvaluator(COFFEE, TODAY);
+		Random random = new Random(5);
+		List<LocalDate> dates = new ArrayList<>();
+		List<BigDecimal> amounts = new ArrayList<>();
+		LocalDate today = TODAY;
+		for (int step = 0; step < 2_000; step++) {
+			if (random.nextInt(10) == 0) {
+				today = today.plusDays(1 + random.nextInt(2));
+				evaluator.advanceTo(today);
+			}
+			LocalDate date = today.minusDays(random.nextInt(6));
+			BigDecimal amount = won(100 + random.nextInt(900));
+			evaluator.apply(date, amount);
+			if (!date.isBefore(today.minusDays(COFFEE.getWindowDays()))) {
+				dates.add(date);
+				amounts.add(amount);
+			}
+
+			BigDecimal expected = BigDecimal.ZERO;
+			for (int i = 0; i < dates.size(); i++) {
+				if (!dates.get(i).isBefore(today.minusDays(COFFEE.getWindowDays()))) {
+					expected = expected.add(amounts.get(i));
+				}
+			}
+			assertEquals(0, expected.compareTo(evaluator.getWindowExpenses()), "step " + step);
+		}
+	}
+
+	private static BigDecimal won(long amount) {
+		return BigDecimal.valueOf(amount);
+	}
+}
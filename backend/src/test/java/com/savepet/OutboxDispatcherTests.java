@@ -0,0 +1,227 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 빈 id(진행 중/롤백된 트랜잭션), 계속 실패하는 이벤트, 재생이 at-least-once 전달을 지키는지 확인
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:outbox-dispatcher-tests",
+	"spring.jpa.show-sql=false",
+	"savepet.ingest.enabled=false",
+	"savepet.outbox.poll-interval-ms=200",
+	"savepet.outbox.gap-grace-ms=100",
+	"savepet.outbox.max-attempts=4"
+})
+class OutboxDispatcherTests {
+
+	private static final String EVENT = "test.event";
+	private static final String POISON = "test.poison";
+
+	@Autowired
+	private Outbox outbox;
+
+	@Autowired
+	private OutboxDispatcher dispatcher;
+
+	@Autowired
+	private OutboxEventRepository eventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private RecordingProjection healthy;
+
+	@Autowired
+	private RecordingProjection fragile;
+
+	@TestConfiguration
+	static class Projections {
+		@Bean
+		RecordingProjection healthy() {
+			return new RecordingProjection("test-healthy", false);
+		}
+
+		@Bean
+		RecordingProjection fragile() {
+			return new RecordingProjection("test-fragile", true);
+		}
+	}
+
+	@Test
+	void waitsForUncommittedIdAndDeliversInOrderAfterCommit() throws Exception {
+		HeldTransaction held = new HeldTransaction(false);
+		long after = publish(EVENT);
+		assertEquals(held.id + 1, after);
+
+		sleep(600);
+		assertFalse(healthy.handled.contains(after), "커밋되지 않은 id 를 건너뛰면 안 된다");
+
+		held.finish();
+		await(() -> healthy.handled.contains(after));
+		assertTrue(healthy.handled.indexOf(held.id) < healthy.handled.indexOf(after));
+	}
+
+	@Test
+	void fillsRolledBackIdAndMovesOn() throws Exception {
+		HeldTransaction held = new HeldTransaction(true);
+		long after = publish(EVENT);
+
+		sleep(600);
+		assertFalse(healthy.handled.contains(after));
+
+		held.finish();
+		await(() -> healthy.handled.contains(after));
+		assertFalse(healthy.handled.contains(held.id));
+		assertEquals(OutboxEvent.GAP, eventRepository.findById(held.id).orElseThrow().getEventType());
+	}
+
+	@Test
+	void poisonEventIsDeadLetteredWithoutStallingOtherProjections() {
+		long poison = publish(POISON);
+		long next = publish(EVENT);
+
+		await(() -> healthy.handled.contains(next));
+		await(() -> dispatcher.getStatus().get("test-fragile").isStuck());
+		OutboxDispatcher.ProjectionStatus stuck = dispatcher.getStatus().get("test-fragile");
+		assertEquals(poison, stuck.getFailingEventId());
+		assertTrue(stuck.getLastError().contains("poison"));
+		assertFalse(fragile.handled.contains(next));
+
+		await(() -> fragile.handled.contains(next));
+		OutboxDispatcher.ProjectionStatus status = dispatcher.getStatus().get("test-fragile");
+		assertFalse(status.isStuck());
+		assertTrue(status.getLastEventId() >= next);
+		assertEquals(1, status.getDeadLetters());
+		OutboxDeadLetter deadLetter = dispatcher.getDeadLetters().get(0);
+		assertEquals(poison, deadLetter.getEventId());
+		assertEquals("test-fragile", deadLetter.getProjection());
+		assertEquals(4, deadLetter.getAttempts());
+	}
+
+	@Test
+	void replayRedeliversEventsToEventOnlyProjection() {
+		long id = publish(EVENT);
+		await(() -> healthy.handled.contains(id));
+
+		assertEquals(0L, dispatcher.replay("test-healthy").getLastEventId());
+		await(() -> healthy.handled.contains(id));
+	}
+
+	@Test
+	void rebuildFromSourceStopsBelowUncommittedEvent() throws Exception {
+		HeldTransaction held = new HeldTransaction(false);
+		long after = publish(EVENT);
+
+		assertEquals(held.id - 1, dispatcher.replay("search-index").getLastEventId());
+
+		held.finish();
+		await(() -> dispatcher.getStatus().get("search-index").getLastEventId() >= after);
+	}
+
+	private long publish(String type) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			outbox.publish(type, Map.of());
+			return eventRepository.findLastId();
+		});
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 15000;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, "제한 시간 안에 조건을 만족하지 않음");
+			sleep(20);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 이벤트 하나를 기록한 채 열어 둔 트랜잭션. finish() 에서 커밋하거나 롤백한다
+	 */
+	private class HeldTransaction {
+		private final CountDownLatch published = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicLong eventId = new AtomicLong();
+		private final Thread thread;
+		private final long id;
+
+		HeldTransaction(boolean rollback) throws InterruptedException {
+			thread = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				outbox.publish(EVENT, Map.of());
+				eventId.set(eventRepository.findLastId());
+				published.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				if (rollback) {
+					status.setRollbackOnly();
+				}
+			}));
+			thread.start();
+			published.await();
+			id = eventId.get();
+		}
+
+		void finish() throws InterruptedException {
+			release.countDown();
+			thread.join();
+		}
+	}
+
+	static class RecordingProjection implements OutboxProjection {
+		private final String name;
+		private final boolean failsOnPoison;
+		final List<Long> handled = new CopyOnWriteArrayList<>();
+
+		RecordingProjection(String name, boolean failsOnPoison) {
+			this.name = name;
+			this.failsOnPoison = failsOnPoison;
+		}
+
+		@Override
+		public String getProjectionName() {
+			return name;
+		}
+
+		@Override
+		public void handle(OutboxEvent event) {
+			if (POISON.equals(event.getEventType()) && failsOnPoison) {
+				throw new IllegalStateException("poison");
+			}
+			if (EVENT.equals(event.getEventType()) || POISON.equals(event.getEventType())) {
+				handled.add(event.getId());
+			}
+		}
+
+		@Override
+		public void resetProjection() {
+			handled.clear();
+		}
+	}
+}
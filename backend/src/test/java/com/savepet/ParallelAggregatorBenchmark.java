@@ -0,0 +1,90 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.jpa.show-sql=false",
+	"logging.level.com.savepet=INFO"
+})
+class ParallelAggregatorBenchmark {
+
+	private static final String[] DESCRIPTIONS = {"스타벅스 아메리카노", "편의점 과자", "배달 치킨", "쇼핑 옷", "지하철", "마트 장보기"};
+
+	@Autowired
+	private AnalyticsService analyticsService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void parallelAggregationScalesWithCores() {
+		int rows = Integer.getInteger("benchmark.rows", 2_000_000);
+		// getCategoryAnalysis 가 보는 최근 4주에 모든 행을 넣는다
+		LocalDateTime start = LocalDateTime.now().minusWeeks(4).plusDays(1);
+		insertRows(rows, start);
+
+		// 자체 읽기 전용 트랜잭션이면 병렬 경로, 쓰기 트랜잭션에 합류하면 순차 경로
+		TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+
+		// 워밍업
+		writeTransaction.execute(status -> analyticsService.getCategoryAnalysis());
+		analyticsService.getCategoryAnalysis();
+
+		long sequentialStart = System.nanoTime();
+		AnalyticsService.CategoryAnalysis sequential = writeTransaction.execute(status -> analyticsService.getCategoryAnalysis());
+		long sequentialMs = (System.nanoTime() - sequentialStart) / 1_000_000;
+
+		long parallelStart = System.nanoTime();
+		AnalyticsService.CategoryAnalysis parallel = analyticsService.getCategoryAnalysis();
+		long parallelMs = (System.nanoTime() - parallelStart) / 1_000_000;
+
+		System.out.printf("rows=%d cores=%d sequential=%dms parallel=%dms speedup=%.2fx%n",
+			rows, Runtime.getRuntime().availableProcessors(), sequentialMs, parallelMs,
+			(double) sequentialMs / Math.max(1, parallelMs));
+
+		assertEquals(sequential.getCategoryExpenses().keySet(), parallel.getCategoryExpenses().keySet());
+		sequential.getCategoryExpenses().forEach((category, amount) ->
+			assertEquals(0, amount.compareTo(parallel.getCategoryExpenses().get(category)), category));
+	}
+
+	private void insertRows(int rows, LocalDateTime start) {
+		long spanSeconds = java.time.Duration.between(start, LocalDateTime.now()).getSeconds();
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			LocalDateTime createdAt = start.plusSeconds(spanSeconds * i / rows);
+			batch.add(new Object[] {
+				DESCRIPTIONS[i % DESCRIPTIONS.length],
+				BigDecimal.valueOf(1000 + (i % 50) * 100),
+				i % 10 == 0 ? "income" : "expense",
+				Timestamp.valueOf(createdAt)
+			});
+			if (batch.size() == 10_000) {
+				flush(batch);
+			}
+		}
+		flush(batch);
+	}
+
+	private void flush(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO transaction (description, amount, type, created_at) VALUES (?, ?, ?, ?)", batch);
+		batch.clear();
+	}
+}
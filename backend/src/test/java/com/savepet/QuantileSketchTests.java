@@ -0,0 +1,115 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTests {
+
+	private static final int K = 200;
+	// 이론상 약 1.7/k, 무작위 압축을 감안해 여유를 둔다
+	private static final double RANK_TOLERANCE = 0.02;
+
+	@Test
+	void emptySketchHasNoQuantiles() {
+		QuantileSketch sketch = new QuantileSketch(K);
+
+		assertEquals(0, sketch.getCount());
+		assertTrue(Double.isNaN(sketch.rank(1)));
+		assertTrue(Double.isNaN(sketch.quantile(0.5)));
+	}
+
+	@Test
+	void exactBeforeFirstCompaction() {
+		QuantileSketch sketch = new QuantileSketch(K);
+		for (int v = 1; v <= 100; v++) {
+			sketch.update(v);
+		}
+
+		assertEquals(50.0, sketch.quantile(0.5));
+		assertEquals(0.5, sketch.rank(50));
+		assertEquals(1.0, sketch.quantile(0));
+		assertEquals(100.0, sketch.quantile(1));
+	}
+
+	@Test
+	void rankAndQuantileStayWithinErrorBound() {
+		int n = 100_000;
+		QuantileSketch sketch = new QuantileSketch(K);
+		for (double v : shuffled(0, n, 42)) {
+			sketch.update(v);
+		}
+
+		assertEquals(n, sketch.getCount());
+		assertEquals(0.0, sketch.getMin());
+		assertEquals(n - 1.0, sketch.getMax());
+		for (double q : new double[] {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99}) {
+			double trueRank = (Math.floor(q * n) + 1) / n;
+			assertEquals(trueRank, sketch.rank(Math.floor(q * n)), RANK_TOLERANCE, "rank at q=" + q);
+			assertEquals(q, (sketch.quantile(q) + 1) / n, RANK_TOLERANCE, "quantile q=" + q);
+		}
+	}
+
+	@Test
+	void mergeMatchesSingleSketch() {
+		int n = 50_000;
+		QuantileSketch low = new QuantileSketch(K);
+		QuantileSketch high = new QuantileSketch(K);
+		for (double v : shuffled(0, n, 7)) {
+			(v < n / 2.0 ? low : high).update(v);
+		}
+
+		low.merge(high);
+
+		assertEquals(n, low.getCount());
+		assertEquals(0.0, low.getMin());
+		assertEquals(n - 1.0, low.getMax());
+		assertEquals(n / 2, high.getCount());
+		for (double q : new double[] {0.1, 0.5, 0.9}) {
+			assertEquals(q, low.rank(q * n), RANK_TOLERANCE, "rank at q=" + q);
+		}
+	}
+
+	@Test
+	void serializeRoundTrip() {
+		QuantileSketch sketch = new QuantileSketch(K);
+		for (double v : shuffled(0, 10_000, 3)) {
+			sketch.update(v * 1.5);
+		}
+
+		QuantileSketch restored = QuantileSketch.deserialize(K, sketch.serialize());
+
+		assertEquals(sketch.getCount(), restored.getCount());
+		assertEquals(sketch.getMin(), restored.getMin());
+		assertEquals(sketch.getMax(), restored.getMax());
+		for (double q : new double[] {0.05, 0.5, 0.95}) {
+			assertEquals(sketch.quantile(q), restored.quantile(q));
+			assertEquals(sketch.rank(q * 15_000), restored.rank(q * 15_000));
+		}
+		assertEquals(sketch.serialize(), restored.serialize());
+	}
+
+	@Test
+	void deserializeRejectsDifferentK() {
+		QuantileSketch sketch = new QuantileSketch(K);
+		sketch.update(1);
+
+		assertNull(QuantileSketch.deserialize(K / 2, sketch.serialize()));
+		assertEquals(0, QuantileSketch.deserialize(K, "").getCount());
+	}
+
+	private static List<Double> shuffled(int from, int to, long seed) {
+		List<Double> values = new ArrayList<>(to - from);
+		for (int v = from; v < to; v++) {
+			values.add((double) v);
+		}
+		Collections.shuffle(values, new Random(seed));
+		return values;
+	}
+}
@@ -0,0 +1,99 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankedIndexTests {
+
+	private final RankedIndex<Integer> index = new RankedIndex<>(Comparator.<Integer>naturalOrder());
+
+	@Test
+	void ranksAndRangesInOrder() {
+		for (int v : new int[] {50, 10, 40, 20, 30}) {
+			index.insert(v);
+		}
+
+		assertEquals(5, index.size());
+		assertEquals(1, index.rankOf(10));
+		assertEquals(3, index.rankOf(30));
+		assertEquals(5, index.rankOf(50));
+		assertEquals(0, index.rankOf(35));
+		assertEquals(List.of(20, 30, 40), index.range(2, 3));
+		assertEquals(List.of(40, 50), index.range(4, 10));
+		assertTrue(index.range(6, 1).isEmpty());
+		assertTrue(index.range(0, 1).isEmpty());
+	}
+
+	@Test
+	void removeUpdatesRanks() {
+		for (int v = 1; v <= 10; v++) {
+			index.insert(v);
+		}
+
+		assertTrue(index.remove(1));
+		assertTrue(index.remove(5));
+		assertTrue(index.remove(10));
+		assertFalse(index.remove(5));
+
+		assertEquals(7, index.size());
+		assertEquals(0, index.rankOf(1));
+		assertEquals(1, index.rankOf(2));
+		assertEquals(4, index.rankOf(6));
+		assertEquals(List.of(2, 3, 4, 6, 7, 8, 9), index.range(1, 10));
+	}
+
+	@Test
+	void updateAsRemoveThenInsertMovesEntry() {
+		for (int v = 10; v <= 50; v += 10) {
+			index.insert(v);
+		}
+
+		index.remove(20);
+		index.insert(45);
+
+		assertEquals(4, index.rankOf(45));
+		assertEquals(List.of(10, 30, 40, 45, 50), index.range(1, 5));
+	}
+
+	@Test
+	void matchesSortedSetUnderRandomOperations() {
+		Random random = new Random(11);
+		TreeSet<Integer> model = new TreeSet<>();
+		for (int step = 0; step < 20_000; step++) {
+			int value = random.nextInt(2_000);
+			if (random.nextInt(3) == 0) {
+				assertEquals(model.remove(value), index.remove(value));
+			} else if (model.add(value)) {
+				index.insert(value);
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>(model);
+		assertEquals(expected.size(), index.size());
+		assertEquals(expected, index.range(1, expected.size()));
+		for (int i = 0; i < expected.size(); i += 37) {
+			assertEquals(i + 1, index.rankOf(expected.get(i)));
+			assertEquals(expected.subList(i, Math.min(expected.size(), i + 5)), index.range(i + 1, 5));
+		}
+	}
+
+	@Test
+	void clearEmptiesIndex() {
+		index.insert(1);
+		index.insert(2);
+		index.clear();
+
+		assertEquals(0, index.size());
+		assertEquals(0, index.rankOf(1));
+		index.insert(3);
+		assertEquals(1, index.rankOf(3));
+	}
+}
@@ -0,0 +1,108 @@
+package com.savepet;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 엔티티 조회를 읽기/쓰기 트랜잭션과 읽기 전용 트랜잭션에서 반복해 시간과 할당량을 비교
+ * 읽기 전용은 읽기 풀로 가고, 스냅샷을 만들지 않으며 커밋 시 dirty check/플러시를 건너뛴다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:read-only-benchmark",
+	"spring.jpa.show-sql=false",
+	"logging.level.com.savepet=INFO",
+	"savepet.ingest.enabled=false"
+})
+class ReadOnlyTransactionBenchmark {
+
+	@Autowired
+	private TransactionRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	@Qualifier("readDataSource")
+	private HikariDataSource readDataSource;
+
+	@Test
+	void readOnlyTransactionsAllocateLessAndUseReadPool() {
+		int rows = Integer.getInteger("benchmark.entities", 20_000);
+		int rounds = Integer.getInteger("benchmark.rounds", 20);
+		insertRows(rows);
+
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		// 읽기 전용 트랜잭션 안에서는 읽기 풀의 커넥션을 쓴다
+		Integer activeReadConnections = readOnly.execute(status -> {
+			repository.count();
+			return readDataSource.getHikariPoolMXBean().getActiveConnections();
+		});
+		assertTrue(activeReadConnections > 0);
+
+		// 워밍업
+		assertEquals(rows, load(readWrite));
+		assertEquals(rows, load(readOnly));
+
+		long[] readWriteResult = measure(readWrite, rounds);
+		long[] readOnlyResult = measure(readOnly, rounds);
+
+		System.out.printf("rows=%d rounds=%d read-write=%dms/%dMB read-only=%dms/%dMB%n",
+			rows, rounds, readWriteResult[0], readWriteResult[1] >> 20, readOnlyResult[0], readOnlyResult[1] >> 20);
+
+		assertTrue(readOnlyResult[1] < readWriteResult[1]);
+	}
+
+	private long[] measure(TransactionTemplate template, int rounds) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long allocatedStart = threads.getThreadAllocatedBytes(thread);
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			load(template);
+		}
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+		return new long[] {elapsedMs, threads.getThreadAllocatedBytes(thread) - allocatedStart};
+	}
+
+	private int load(TransactionTemplate template) {
+		return template.execute(status -> repository.findAll().size());
+	}
+
+	private void insertRows(int rows) {
+		LocalDateTime start = LocalDateTime.now().minusDays(30);
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] {
+				"거래 " + i,
+				BigDecimal.valueOf(1000 + (i % 50) * 100),
+				i % 10 == 0 ? "income" : "expense",
+				Timestamp.valueOf(start.plusMinutes(i))
+			});
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO transaction (description, amount, type, created_at) VALUES (?, ?, ?, ?)", batch);
+	}
+}
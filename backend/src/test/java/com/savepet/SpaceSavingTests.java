@@ -0,0 +1,82 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingTests {
+
+	@Test
+	void countsExactlyBelowCapacity() {
+		SpaceSaving sketch = new SpaceSaving(10);
+		offer(sketch, "coffee", 5);
+		offer(sketch, "bus", 3);
+		offer(sketch, "snack", 1);
+
+		List<SpaceSaving.Entry> top = sketch.top(3);
+		assertEquals(List.of("coffee", "bus", "snack"), top.stream().map(SpaceSaving.Entry::getKey).toList());
+		assertEquals(5, top.get(0).getCount());
+		assertEquals(0, top.get(0).getError());
+		assertEquals(2, sketch.top(2).size());
+	}
+
+	@Test
+	void newKeyTakesOverSmallestCounter() {
+		SpaceSaving sketch = new SpaceSaving(2);
+		offer(sketch, "a", 3);
+		offer(sketch, "b", 1);
+		offer(sketch, "c", 1);
+
+		List<SpaceSaving.Entry> top = sketch.top(2);
+		assertEquals("a", top.get(0).getKey());
+		assertEquals("c", top.get(1).getKey());
+		assertEquals(2, top.get(1).getCount());
+		assertEquals(1, top.get(1).getError());
+	}
+
+	@Test
+	void heavyHitterSurvivesAndBoundsHold() {
+		SpaceSaving sketch = new SpaceSaving(10);
+		int hot = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (i % 3 == 0) {
+				sketch.offer("hot");
+				hot++;
+			} else {
+				sketch.offer("other-" + i);
+			}
+		}
+
+		SpaceSaving.Entry first = sketch.top(1).get(0);
+		assertEquals("hot", first.getKey());
+		assertTrue(first.getCount() >= hot);
+		assertTrue(first.getCount() - first.getError() <= hot);
+	}
+
+	@Test
+	void serializeRoundTrip() {
+		SpaceSaving sketch = new SpaceSaving(3);
+		offer(sketch, "a", 4);
+		offer(sketch, "b", 2);
+		offer(sketch, "c", 1);
+		offer(sketch, "d", 1);
+
+		SpaceSaving restored = SpaceSaving.deserialize(3, sketch.serialize());
+		List<SpaceSaving.Entry> expected = sketch.top(3);
+		List<SpaceSaving.Entry> actual = restored.top(3);
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getKey(), actual.get(i).getKey());
+			assertEquals(expected.get(i).getCount(), actual.get(i).getCount());
+			assertEquals(expected.get(i).getError(), actual.get(i).getError());
+		}
+	}
+
+	private static void offer(SpaceSaving sketch, String key, int times) {
+		for (int i = 0; i < times; i++) {
+			sketch.offer(key);
+		}
+	}
+}
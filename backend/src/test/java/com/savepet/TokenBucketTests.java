@@ -0,0 +1,91 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+	@Test
+	void allowsBurstThenReportsWait() {
+		TokenBucket bucket = new TokenBucket(1, 3);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, bucket.tryAcquire());
+		}
+		long wait = bucket.tryAcquire();
+		assertTrue(wait > 0);
+		assertTrue(wait <= TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	void refillsAfterInterval() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(1000, 1);
+
+		assertEquals(0, bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire() > 0);
+		Thread.sleep(5);
+		assertEquals(0, bucket.tryAcquire());
+	}
+
+	@Test
+	void rejectedAttemptsDoNotConsumeTokens() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(100, 1);
+
+		assertEquals(0, bucket.tryAcquire());
+		for (int i = 0; i < 100; i++) {
+			bucket.tryAcquire();
+		}
+		Thread.sleep(20);
+		assertEquals(0, bucket.tryAcquire());
+	}
+
+	@Test
+	void concurrentCallersNeverExceedBurst() throws Exception {
+		TokenBucket bucket = new TokenBucket(0.001, 50);
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					int granted = 0;
+					for (int i = 0; i < 100; i++) {
+						if (bucket.tryAcquire() == 0) {
+							granted++;
+						}
+					}
+					return granted;
+				}));
+			}
+			start.countDown();
+			int total = 0;
+			for (Future<Integer> future : futures) {
+				total += future.get();
+			}
+			assertEquals(50, total);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void idleOnlyAfterTokensRefilled() {
+		TokenBucket bucket = new TokenBucket(0.001, 1);
+		assertTrue(bucket.isIdleSince(System.nanoTime() + 1));
+
+		bucket.tryAcquire();
+		assertFalse(bucket.isIdleSince(System.nanoTime() + 1));
+	}
+}
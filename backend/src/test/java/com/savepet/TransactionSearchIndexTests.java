@@ -0,0 +1,119 @@
+package com.savepet;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionSearchIndexTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+	private final TransactionSearchIndex index = new TransactionSearchIndex();
+
+	@Test
+	void findsSubstringsAndRanksPrefixFirst() {
+		index.add(transaction(1, "스타벅스 아메리카노", NOW.minusDays(2)));
+		index.add(transaction(2, "아메리카노", NOW.minusDays(1)));
+		index.add(transaction(3, "편의점 과자", NOW));
+
+		assertEquals(List.of(2L, 1L), ids(index.search("아메리카노", null, null, 10)));
+		assertEquals(List.of(1L), ids(index.search("벅스", null, null, 10)));
+		assertTrue(index.search("치킨", null, null, 10).isEmpty());
+	}
+
+	@Test
+	void singleCharacterQueryUsesUnigrams() {
+		index.add(transaction(1, "배달 치킨", NOW));
+		index.add(transaction(2, "지하철", NOW));
+
+		assertEquals(List.of(1L), ids(index.search("킨", null, null, 10)));
+		assertEquals(List.of(2L), ids(index.search("철", null, null, 10)));
+	}
+
+	@Test
+	void matchRequiresContiguousText() {
+		// 2-gram 은 모두 있지만 이어지지 않는 문서는 원문 확인에서 걸러진다
+		index.add(transaction(1, "가나 나다", NOW));
+
+		assertTrue(index.search("가나다", null, null, 10).isEmpty());
+	}
+
+	@Test
+	void filtersByRangeAndLimit() {
+		for (int i = 0; i < 5; i++) {
+			index.add(transaction(i + 1, "마트 장보기", NOW.minusDays(i)));
+		}
+
+		assertEquals(List.of(2L, 3L), ids(index.search("마트", NOW.minusDays(2), NOW.minusDays(1).plusHours(1), 10)));
+		assertEquals(List.of(1L, 2L), ids(index.search("마트", null, null, 2)));
+	}
+
+	@Test
+	void limitKeepsBestHitsRegardlessOfIndexOrder() {
+		// 점수가 높은 문서(접두어 일치, 짧은 설명)를 뒤에 색인해도 상위 limit 건에 들어가야 한다
+		for (int i = 0; i < 20; i++) {
+			index.add(transaction(i + 1, "동네 편의점 커피 " + i, NOW.minusDays(i)));
+		}
+		index.add(transaction(21, "커피", NOW.minusDays(30)));
+		index.add(transaction(22, "커피 원두", NOW.minusDays(30)));
+
+		assertEquals(List.of(21L, 22L, 1L), ids(index.search("커피", null, null, 3)));
+		assertTrue(index.search("커피", null, null, 0).isEmpty());
+	}
+
+	@Test
+	void removeDropsPostingsAndSuggestions() {
+		index.add(transaction(1, "쇼핑 옷", NOW));
+		index.add(transaction(2, "쇼핑 옷", NOW));
+		index.add(transaction(3, "쇼핑 신발", NOW));
+		assertEquals("쇼핑 옷", index.suggest("쇼핑", 10).get(0));
+
+		index.remove(1L);
+		index.remove(2L);
+
+		assertEquals(List.of(3L), ids(index.search("쇼핑", null, null, 10)));
+		assertEquals(List.of("쇼핑 신발"), index.suggest("쇼핑", 10));
+	}
+
+	@Test
+	void removeRangeDropsDocumentsInRange() {
+		index.add(transaction(1, "커피", NOW.minusDays(3)));
+		index.add(transaction(2, "커피", NOW.minusDays(2)));
+		index.add(transaction(3, "커피", NOW));
+
+		index.removeRange(NOW.minusDays(4), NOW.minusDays(1));
+
+		assertEquals(List.of(3L), ids(index.search("커피", null, null, 10)));
+	}
+
+	@Test
+	void addIsIdempotentAndIgnoresMissingDescription() {
+		index.add(transaction(1, "버스", NOW));
+		index.add(transaction(1, "버스", NOW));
+		index.add(transaction(2, null, NOW));
+
+		assertEquals(List.of(1L), ids(index.search("버스", null, null, 10)));
+		assertEquals(List.of("버스"), index.suggest("버", 10));
+
+		index.clear();
+		assertTrue(index.search("버스", null, null, 10).isEmpty());
+	}
+
+	private static Transaction transaction(long id, String description, LocalDateTime createdAt) {
+		Transaction transaction = new Transaction();
+		transaction.setId(id);
+		transaction.setDescription(description);
+		transaction.setAmount(BigDecimal.valueOf(1000));
+		transaction.setType("expense");
+		transaction.setCreatedAt(createdAt);
+		return transaction;
+	}
+
+	private static List<Long> ids(List<TransactionSearchIndex.SearchHit> hits) {
+		return hits.stream().map(TransactionSearchIndex.SearchHit::getId).toList();
+	}
+}